@@ -0,0 +1,56 @@
+package com.cfhayes.monopoly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board lookups used on every move.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private Board board;
+    private int position;
+    
+    @Setup
+    public void setUp() {
+        board = new Board();
+    }
+    
+    @Benchmark
+    public BoardSpace getSpace() {
+        position = (position + 7) % 40;
+        return board.getSpace(position);
+    }
+    
+    @Benchmark
+    public List<Property> getPropertiesByColorGroup() {
+        return board.getPropertiesByColorGroup("Orange");
+    }
+    
+    @Benchmark
+    public List<Property> getColorGroupView() {
+        return board.getColorGroupView("Orange");
+    }
+    
+    @Benchmark
+    public SquareKind layoutKind() {
+        position = (position + 7) % 40;
+        return BoardLayout.standard().getKind(position);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.cfhayes.monopoly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card draws, including the reshuffle every time a pile runs out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardDeckBenchmark {
+    private static final int FULL_CYCLE = 13;
+    
+    private CardDeck cardDeck;
+    
+    @Setup
+    public void setUp() {
+        cardDeck = new CardDeck(42);
+    }
+    
+    @Benchmark
+    public Card drawChance() {
+        return cardDeck.drawChanceCard();
+    }
+    
+    @Benchmark
+    public Card drawCommunityChest() {
+        return cardDeck.drawCommunityChestCard();
+    }
+    
+    /**
+     * A whole Chance pile per invocation, so every invocation pays for exactly one reshuffle
+     */
+    @Benchmark
+    @OperationsPerInvocation(FULL_CYCLE)
+    public void drawFullChanceCycle(Blackhole blackhole) {
+        for (int i = 0; i < FULL_CYCLE; i++) {
+            blackhole.consume(cardDeck.drawChanceCard());
+        }
+    }
+}
\ No newline at end of file
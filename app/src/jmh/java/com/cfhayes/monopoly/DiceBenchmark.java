@@ -0,0 +1,43 @@
+package com.cfhayes.monopoly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single roll for Dice and for BatchedDice in batched and table mode
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+    private final Dice dice = new Dice(42);
+    private final Dice batched = new BatchedDice(new GameRandom(42));
+    private final Dice table = new BatchedDice(new GameRandom(42), 1);
+    
+    @Benchmark
+    public int dice() {
+        return dice.roll() + dice.getDoublesCount();
+    }
+    
+    @Benchmark
+    public int batchedDice() {
+        return batched.roll() + batched.getDoublesCount();
+    }
+    
+    @Benchmark
+    public int tableDice() {
+        return table.roll() + table.getDoublesCount();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.cfhayes.monopoly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rent calculation for each property type, on the object model and on the compact state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RentBenchmark {
+    private Property monopolyProperty;
+    private Property developedProperty;
+    private Property railroad;
+    private Property utility;
+    private CompactGameState state;
+    
+    @Setup
+    public void setUp() {
+        Board board = new Board();
+        Player owner = new Player("Owner", 1500);
+        // Dark Blue monopoly with houses on Boardwalk, three railroads and both utilities
+        for (int square : new int[] { 37, 39, 5, 15, 25, 12, 28 }) {
+            ((Property) board.getSpace(square)).setOwner(owner);
+        }
+        ((Property) board.getSpace(39)).setHouses(3);
+        
+        monopolyProperty = (Property) board.getSpace(37);
+        developedProperty = (Property) board.getSpace(39);
+        railroad = (Property) board.getSpace(5);
+        utility = (Property) board.getSpace(12);
+        state = CompactGameState.of(List.of(owner), board);
+    }
+    
+    @Benchmark
+    public int regularMonopoly() {
+        return monopolyProperty.calculateRent();
+    }
+    
+    @Benchmark
+    public int regularWithHouses() {
+        return developedProperty.calculateRent();
+    }
+    
+    @Benchmark
+    public int railroad() {
+        return railroad.calculateRent();
+    }
+    
+    @Benchmark
+    public int utility() {
+        return utility.calculateRent();
+    }
+    
+    @Benchmark
+    public int compactRailroad() {
+        return CompactEngine.rent(state, 0, 5);
+    }
+    
+    @Benchmark
+    public int compactRegularMonopoly() {
+        return CompactEngine.rent(state, 0, 37);
+    }
+}
\ No newline at end of file
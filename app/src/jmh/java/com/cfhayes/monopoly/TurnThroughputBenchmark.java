@@ -0,0 +1,75 @@
+package com.cfhayes.monopoly;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-game turns per second in headless mode, for Game and for the compact engine.
+ * Each invocation plays a batch of turns and starts a new game whenever one finishes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TurnThroughputBenchmark {
+    private static final int TURNS = 100;
+    private static final int PLAYERS = 4;
+    
+    private long seed;
+    private Game game;
+    private CompactEngine engine;
+    private CompactGameState state;
+    
+    @Setup
+    public void setUp() {
+        newGame();
+        newCompactGame();
+    }
+    
+    private void newGame() {
+        seed++;
+        game = new Game(new Dice(seed), new CardDeck(seed), DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        for (int i = 1; i <= PLAYERS; i++) {
+            game.addPlayer("Player " + i);
+        }
+    }
+    
+    private void newCompactGame() {
+        seed++;
+        engine = new CompactEngine(new Dice(seed), new CardDeck(seed), PurchasePolicy.ALWAYS_BUY);
+        state = new CompactGameState(BoardLayout.standard(), PLAYERS, 1500);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public int headlessGame() {
+        int played = game.play(TURNS);
+        if (game.isGameOver()) {
+            newGame();
+        }
+        return played;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public int compactEngine() {
+        int played = engine.play(state, TURNS);
+        if (state.isGameOver()) {
+            newCompactGame();
+        }
+        return played;
+    }
+}
\ No newline at end of file
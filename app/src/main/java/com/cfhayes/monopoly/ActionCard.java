@@ -16,87 +16,74 @@ public class ActionCard extends Card {
         COLLECT_FROM_EACH_PLAYER // Collect money from each other player
     }
     
+    /**
+     * Create an action card with the standard amounts ($100 for repairs, $50 per player,
+     * three spaces back)
+     */
     public ActionCard(String description, CardType type, ActionType actionType) {
-        super(description, type);
-        this.actionType = actionType;
+        this(description, type, effectOf(actionType), defaultOperand1(actionType), 0);
     }
     
-    @Override
-    public void execute(Player player, Game game) {
+    /**
+     * Create an action card for any effect other than MONEY and ADVANCE, with its own operands
+     */
+    public ActionCard(String description, CardType type, CardEffect effect, int operand1, int operand2) {
+        super(description, type, effect, operand1, operand2);
+        this.actionType = actionTypeOf(effect);
+    }
+    
+    private static CardEffect effectOf(ActionType actionType) {
         switch (actionType) {
             case GET_OUT_OF_JAIL_FREE:
-                // TODO: Implement jail card holding (for now just give money equivalent)
-                player.addMoney(50);
-                System.out.println("Get Out of Jail Free card! (Worth $50 for now)");
-                break;
-                
+                return CardEffect.GET_OUT_OF_JAIL_FREE;
+            case GO_TO_JAIL:
+                return CardEffect.GO_TO_JAIL;
+            case ADVANCE_TO_GO:
+                return CardEffect.ADVANCE_TO_GO;
+            case GO_BACK_3_SPACES:
+                return CardEffect.GO_BACK;
+            case REPAIRS:
+                return CardEffect.REPAIRS;
+            case PAY_EACH_PLAYER:
+                return CardEffect.PAY_EACH_PLAYER;
+            default:
+                return CardEffect.COLLECT_FROM_EACH_PLAYER;
+        }
+    }
+    
+    private static ActionType actionTypeOf(CardEffect effect) {
+        switch (effect) {
+            case GET_OUT_OF_JAIL_FREE:
+                return ActionType.GET_OUT_OF_JAIL_FREE;
             case GO_TO_JAIL:
-                player.setPosition(10); // Jail position
-                player.setInJail(true);
-                System.out.println("Go directly to Jail! Do not pass GO, do not collect $200");
-                break;
-                
+                return ActionType.GO_TO_JAIL;
             case ADVANCE_TO_GO:
-                player.setPosition(0);
-                player.addMoney(200);
-                System.out.println("Advanced to GO! Collected $200");
-                break;
-                
+                return ActionType.ADVANCE_TO_GO;
+            case GO_BACK:
+                return ActionType.GO_BACK_3_SPACES;
+            case REPAIRS:
+                return ActionType.REPAIRS;
+            case PAY_EACH_PLAYER:
+                return ActionType.PAY_EACH_PLAYER;
+            case COLLECT_FROM_EACH_PLAYER:
+                return ActionType.COLLECT_FROM_EACH_PLAYER;
+            default:
+                throw new IllegalArgumentException(effect + " cards are not action cards");
+        }
+    }
+    
+    private static int defaultOperand1(ActionType actionType) {
+        switch (actionType) {
             case GO_BACK_3_SPACES:
-                int newPosition = (player.getPosition() - 3 + 40) % 40;
-                player.setPosition(newPosition);
-                System.out.println("Went back 3 spaces to " + game.getBoard().getSpace(newPosition).getName());
-                
-                // Handle landing on new space
-                BoardSpace space = game.getBoard().getSpace(newPosition);
-                if (space instanceof Property) {
-                    Property property = (Property) space;
-                    // For card-triggered moves, just show the property info, don't force purchase
-                    if (property.getOwner() == null) {
-                        System.out.println("You landed on " + property.getName() + " (costs $" + property.getPrice() + ")");
-                    } else if (!property.getOwner().equals(player)) {
-                        // Still need to pay rent if owned by someone else
-                        int rent = property.getRent();
-                        player.subtractMoney(rent);
-                        property.getOwner().addMoney(rent);
-                        System.out.println("Paid $" + rent + " rent to " + property.getOwner().getName());
-                    }
-                }
-                break;
-                
+                return 3;
             case REPAIRS:
-                // Simplified: Pay $25 per house, $100 per hotel (assume player has some buildings)
-                int repairCost = 100; // Simplified fixed cost
-                player.subtractMoney(repairCost);
-                System.out.println("Paid $" + repairCost + " for general repairs");
-                break;
-                
+                return 100;
             case PAY_EACH_PLAYER:
-                int payAmount = 50;
-                for (Player otherPlayer : game.getPlayers()) {
-                    if (!otherPlayer.equals(player)) {
-                        int actualPay = Math.min(payAmount, player.getMoney());
-                        player.subtractMoney(actualPay);
-                        otherPlayer.addMoney(actualPay);
-                    }
-                }
-                System.out.println("Paid $" + payAmount + " to each other player");
-                break;
-                
             case COLLECT_FROM_EACH_PLAYER:
-                int collectAmount = 50;
-                for (Player otherPlayer : game.getPlayers()) {
-                    if (!otherPlayer.equals(player)) {
-                        int actualCollect = Math.min(collectAmount, otherPlayer.getMoney());
-                        otherPlayer.subtractMoney(actualCollect);
-                        player.addMoney(actualCollect);
-                    }
-                }
-                System.out.println("Collected $" + collectAmount + " from each other player");
-                break;
+                return 50;
+            default:
+                return 0;
         }
-        
-        System.out.println("Your balance is now $" + player.getMoney());
     }
     
     public ActionType getActionType() {
@@ -0,0 +1,152 @@
+package com.cfhayes.monopoly;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads board layouts from text definitions, one square per line in board order starting
+ * from GO. Fields are separated by | and depend on the square's kind:
+ *
+ * <pre>
+ * PROPERTY | Illinois Avenue  | 240 | 20 | Red     (price, base rent, color group)
+ * RAILROAD | Reading Railroad | 200 | 25           (price, base rent)
+ * UTILITY  | Electric Company | 150                (price)
+ * INCOME_TAX | Income Tax     | 200                (tax; GO takes its landing bonus here)
+ * CHANCE   | Chance                                (any other SquareKind: just a name)
+ * </pre>
+ *
+ * Blank lines and lines starting with # are ignored.
+ */
+public final class BoardDefinitions {
+    /**
+     * Resource holding the standard 40-square board
+     */
+    static final String STANDARD_RESOURCE = "standard-board.txt";
+    
+    private BoardDefinitions() {
+    }
+    
+    /**
+     * Load the standard board bundled with the game
+     */
+    public static BoardLayout standard() {
+        InputStream input = BoardDefinitions.class.getResourceAsStream(STANDARD_RESOURCE);
+        if (input == null) {
+            throw new IllegalStateException("Missing board definitions resource " + STANDARD_RESOURCE);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Load a board from a definition file
+     */
+    public static BoardLayout read(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+    
+    /**
+     * Parse a board definition; malformed lines are reported with their line number
+     */
+    public static BoardLayout read(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        List<String> names = new ArrayList<>();
+        List<SquareKind> kinds = new ArrayList<>();
+        List<int[]> values = new ArrayList<>();
+        List<String> colorGroups = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                String[] fields = line.split("\\|");
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = fields[i].strip();
+                }
+                if (fields.length < 2 || fields[1].isEmpty()) {
+                    throw new IllegalArgumentException("Expected a square kind and a name");
+                }
+                SquareKind kind = SquareKind.valueOf(fields[0]);
+                int numbers = numberCount(kind);
+                int expected = 2 + numbers + (kind == SquareKind.PROPERTY ? 1 : 0);
+                if (fields.length != expected) {
+                    throw new IllegalArgumentException(kind + " squares need " + expected + " fields");
+                }
+                int[] squareValues = new int[2];
+                for (int i = 0; i < numbers; i++) {
+                    squareValues[i] = parseNumber(fields[2 + i]);
+                }
+                names.add(fields[1]);
+                kinds.add(kind);
+                values.add(squareValues);
+                colorGroups.add(kind == SquareKind.PROPERTY ? fields[expected - 1] : null);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        
+        int size = names.size();
+        int[] prices = new int[size];
+        int[] baseRents = new int[size];
+        int[] amounts = new int[size];
+        for (int square = 0; square < size; square++) {
+            int[] squareValues = values.get(square);
+            if (kinds.get(square).isOwnable()) {
+                prices[square] = squareValues[0];
+                baseRents[square] = squareValues[1];
+            } else {
+                amounts[square] = squareValues[0];
+            }
+        }
+        return new BoardLayout(names.toArray(new String[0]), kinds.toArray(new SquareKind[0]), prices, baseRents,
+                               amounts, colorGroups.toArray(new String[0]));
+    }
+    
+    /**
+     * Number of numeric fields after the name for each kind of square
+     */
+    private static int numberCount(SquareKind kind) {
+        switch (kind) {
+            case PROPERTY:
+            case RAILROAD:
+                return 2;
+            case UTILITY:
+            case GO:
+            case INCOME_TAX:
+            case LUXURY_TAX:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+    
+    private static int parseNumber(String field) {
+        try {
+            int value = Integer.parseInt(field);
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative amount: " + field);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + field);
+        }
+    }
+}
\ No newline at end of file
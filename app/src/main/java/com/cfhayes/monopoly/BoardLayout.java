@@ -0,0 +1,207 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, array-based description of a board: the integer-coded square table behind
+ * both Board and the compact engine. Layouts are read with BoardDefinitions, and one layout
+ * is shared by every Board and CompactGameState played on it.
+ */
+public final class BoardLayout {
+    private static final BoardLayout STANDARD = BoardDefinitions.standard();
+    
+    private final int size;
+    private final int jailPosition;
+    private final int goSalary;
+    private final int fingerprint;
+    private final String[] names;
+    private final SquareKind[] kinds;
+    private final int[] prices;
+    private final int[] baseRents;
+    private final int[] amounts;
+    private final RentTable[] rentTables;
+    private final int[] groups;
+    private final int[] groupSizes;
+    private final String[] groupNames;
+    private final Map<String, Integer> groupIndexes;
+    
+    /**
+     * Build a layout from per-square arrays; colorGroups is only read for PROPERTY squares
+     */
+    BoardLayout(String[] names, SquareKind[] kinds, int[] prices, int[] baseRents, int[] amounts,
+                String[] colorGroups) {
+        this.size = names.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("A board needs at least one square");
+        }
+        this.names = names;
+        this.kinds = kinds;
+        this.prices = prices;
+        this.baseRents = baseRents;
+        this.amounts = amounts;
+        this.rentTables = new RentTable[size];
+        this.groups = new int[size];
+        
+        List<String> groupList = new ArrayList<>();
+        int jail = -1;
+        boolean hasGoToJail = false;
+        for (int square = 0; square < size; square++) {
+            groups[square] = -1;
+            switch (kinds[square]) {
+                case PROPERTY:
+                    rentTables[square] = RentTable.of(Property.PropertyType.REGULAR, baseRents[square]);
+                    int group = groupList.indexOf(colorGroups[square]);
+                    if (group < 0) {
+                        group = groupList.size();
+                        groupList.add(colorGroups[square]);
+                    }
+                    groups[square] = group;
+                    break;
+                case RAILROAD:
+                    rentTables[square] = RentTable.of(Property.PropertyType.RAILROAD, baseRents[square]);
+                    break;
+                case UTILITY:
+                    rentTables[square] = RentTable.of(Property.PropertyType.UTILITY, baseRents[square]);
+                    break;
+                case JAIL:
+                    if (jail < 0) {
+                        jail = square;
+                    }
+                    break;
+                case GO_TO_JAIL:
+                    hasGoToJail = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (hasGoToJail && jail < 0) {
+            throw new IllegalArgumentException("A board with a GO_TO_JAIL square needs a JAIL square");
+        }
+        this.jailPosition = jail < 0 ? 0 : jail;
+        this.goSalary = kinds[0] == SquareKind.GO ? amounts[0] : 0;
+        this.groupNames = groupList.toArray(new String[0]);
+        this.groupIndexes = new HashMap<>();
+        for (int group = 0; group < groupNames.length; group++) {
+            groupIndexes.put(groupNames[group], group);
+        }
+        this.groupSizes = new int[groupNames.length];
+        for (int square = 0; square < size; square++) {
+            if (groups[square] >= 0) {
+                groupSizes[groups[square]]++;
+            }
+        }
+        
+        // Only stable hashes (strings and ints), so fingerprints can be stored and compared across runs
+        int hash = size;
+        for (int square = 0; square < size; square++) {
+            hash = 31 * hash + names[square].hashCode();
+            hash = 31 * hash + kinds[square].ordinal();
+            hash = 31 * hash + prices[square];
+            hash = 31 * hash + baseRents[square];
+            hash = 31 * hash + amounts[square];
+            hash = 31 * hash + groups[square];
+        }
+        this.fingerprint = hash;
+    }
+    
+    /**
+     * Get the layout a board was built from
+     */
+    public static BoardLayout of(Board board) {
+        return board.getLayout();
+    }
+    
+    /**
+     * The layout of the standard 40-square board
+     */
+    public static BoardLayout standard() {
+        return STANDARD;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public int getJailPosition() {
+        return jailPosition;
+    }
+    
+    /**
+     * Get the salary collected for passing GO: the amount of the GO square in square 0, or 0
+     * if the board does not start with GO
+     */
+    public int getGoSalary() {
+        return goSalary;
+    }
+    
+    /**
+     * Get a hash of every square, used to check that saved state belongs to this layout
+     */
+    public int getFingerprint() {
+        return fingerprint;
+    }
+    
+    public String getName(int square) {
+        return names[square];
+    }
+    
+    public SquareKind getKind(int square) {
+        return kinds[square];
+    }
+    
+    public boolean isOwnable(int square) {
+        return kinds[square].isOwnable();
+    }
+    
+    public int getPrice(int square) {
+        return prices[square];
+    }
+    
+    public int getBaseRent(int square) {
+        return baseRents[square];
+    }
+    
+    /**
+     * Get the landing bonus of GO or the tax of a tax square (0 for other squares)
+     */
+    public int getAmount(int square) {
+        return amounts[square];
+    }
+    
+    /**
+     * Get the precomputed rents of an ownable square (null for other squares)
+     */
+    public RentTable getRentTable(int square) {
+        return rentTables[square];
+    }
+    
+    /**
+     * Get the color group index of a square, or -1 for squares without a color group
+     */
+    public int getGroup(int square) {
+        return groups[square];
+    }
+    
+    public int getGroupCount() {
+        return groupNames.length;
+    }
+    
+    public int getGroupSize(int group) {
+        return groupSizes[group];
+    }
+    
+    public String getGroupName(int group) {
+        return groupNames[group];
+    }
+    
+    /**
+     * Get the index of a color group by name, or -1 if no square belongs to it
+     */
+    public int indexOfGroup(String groupName) {
+        return groupIndexes.getOrDefault(groupName, -1);
+    }
+}
\ No newline at end of file
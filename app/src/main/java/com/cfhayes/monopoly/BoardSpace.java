@@ -6,10 +6,12 @@ package com.cfhayes.monopoly;
 public abstract class BoardSpace {
     protected String name;
     protected int position;
+    protected final SquareKind kind;
     
-    public BoardSpace(String name, int position) {
+    public BoardSpace(String name, int position, SquareKind kind) {
         this.name = name;
         this.position = position;
+        this.kind = kind;
     }
     
     public String getName() {
@@ -20,8 +22,22 @@ public abstract class BoardSpace {
         return position;
     }
     
+    /**
+     * Get the kind of square this space is, decided once when the space is created
+     */
+    public SquareKind getKind() {
+        return kind;
+    }
+    
     /**
      * Handle what happens when a player lands on this space
      */
-    public abstract void handleLanding(Player player);
+    public void handleLanding(Player player) {
+        handleLanding(player, GameEventSink.CONSOLE);
+    }
+    
+    /**
+     * Handle what happens when a player lands on this space, reporting events to the given sink
+     */
+    public abstract void handleLanding(Player player, GameEventSink events);
 }
\ No newline at end of file
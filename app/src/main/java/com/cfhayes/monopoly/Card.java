@@ -1,19 +1,40 @@
 package com.cfhayes.monopoly;
 
 /**
- * Abstract base class for all Monopoly cards (Chance and Community Chest)
+ * Abstract base class for all Monopoly cards (Chance and Community Chest).
+ * A card's behavior is plain data: a CardEffect opcode and up to two operands.
  */
 public abstract class Card {
     protected String description;
     protected CardType type;
+    private final CardEffect effect;
+    private final int operand1;
+    private final int operand2;
     
     public enum CardType {
         CHANCE, COMMUNITY_CHEST
     }
     
-    public Card(String description, CardType type) {
+    protected Card(String description, CardType type, CardEffect effect, int operand1, int operand2) {
         this.description = description;
         this.type = type;
+        this.effect = effect;
+        this.operand1 = operand1;
+        this.operand2 = operand2;
+    }
+    
+    /**
+     * Create the card class matching an effect: MoneyCard, MovementCard or ActionCard
+     */
+    public static Card of(String description, CardType type, CardEffect effect, int operand1, int operand2) {
+        switch (effect) {
+            case MONEY:
+                return new MoneyCard(description, type, operand1);
+            case ADVANCE:
+                return new MovementCard(description, type, operand1, operand2 != 0);
+            default:
+                return new ActionCard(description, type, effect, operand1, operand2);
+        }
     }
     
     public String getDescription() {
@@ -24,10 +45,24 @@ public abstract class Card {
         return type;
     }
     
+    public CardEffect getEffect() {
+        return effect;
+    }
+    
+    public int getOperand1() {
+        return operand1;
+    }
+    
+    public int getOperand2() {
+        return operand2;
+    }
+    
     /**
      * Execute the card's action on the given player and game
      */
-    public abstract void execute(Player player, Game game);
+    public void execute(Player player, Game game) {
+        game.applyCard(player, this);
+    }
     
     @Override
     public String toString() {
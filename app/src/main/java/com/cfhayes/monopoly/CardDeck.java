@@ -1,115 +1,225 @@
 package com.cfhayes.monopoly;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
- * Manages decks of Chance and Community Chest cards
+ * Manages decks of Chance and Community Chest cards.
+ * The cards themselves are immutable and shared by every deck; each deck only keeps a
+ * shuffled order and a cursor, and reshuffles that order in place when it runs out.
+ * The standard cards are loaded from their definition file (see CardDefinitions).
  */
 public class CardDeck {
-    private List<Card> chanceCards;
-    private List<Card> communityChestCards;
-    private Random random;
+    private static final List<Card> STANDARD_CARDS = CardDefinitions.standard();
+    private static final Card[] CHANCE_CARDS = ofType(STANDARD_CARDS, Card.CardType.CHANCE);
+    private static final Card[] COMMUNITY_CHEST_CARDS = ofType(STANDARD_CARDS, Card.CardType.COMMUNITY_CHEST);
+    
+    private final Card[] chanceCards;
+    private final Card[] communityChestCards;
+    private int[] chanceOrder;
+    private int chanceCursor;
+    private int[] communityChestOrder;
+    private int communityChestCursor;
+    private RandomGenerator random;
     
     public CardDeck() {
-        this.random = new Random();
-        initializeCards();
+        this(new GameRandom());
     }
     
     /**
      * Constructor for testing with specific seed
      */
     public CardDeck(long seed) {
-        this.random = new Random(seed);
+        this(new GameRandom(seed));
+    }
+    
+    /**
+     * Create decks shuffled by the given random number generator
+     */
+    public CardDeck(RandomGenerator random) {
+        this(random, CHANCE_CARDS, COMMUNITY_CHEST_CARDS);
+    }
+    
+    /**
+     * Create decks of the given cards (e.g. from CardDefinitions), shuffled by the given generator
+     */
+    public CardDeck(RandomGenerator random, List<Card> cards) {
+        this(random, ofType(cards, Card.CardType.CHANCE), ofType(cards, Card.CardType.COMMUNITY_CHEST));
+    }
+    
+    private CardDeck(RandomGenerator random, Card[] chanceCards, Card[] communityChestCards) {
+        if (chanceCards.length == 0 || communityChestCards.length == 0) {
+            throw new IllegalArgumentException("Both decks need at least one card");
+        }
+        this.random = random;
+        this.chanceCards = chanceCards;
+        this.communityChestCards = communityChestCards;
         initializeCards();
     }
     
-    private void initializeCards() {
-        initializeChanceCards();
-        initializeCommunityChestCards();
+    /**
+     * Create a deck of the same cards with its own order, shuffled by the given generator
+     */
+    public CardDeck withRandom(RandomGenerator random) {
+        return new CardDeck(random, chanceCards, communityChestCards);
     }
     
-    private void initializeChanceCards() {
-        chanceCards = new ArrayList<>();
-        
-        // Money cards
-        chanceCards.add(new MoneyCard("Bank pays you dividend of $50", Card.CardType.CHANCE, 50));
-        chanceCards.add(new MoneyCard("Pay poor tax of $15", Card.CardType.CHANCE, -15));
-        chanceCards.add(new MoneyCard("Your building loan matures - collect $150", Card.CardType.CHANCE, 150));
-        chanceCards.add(new MoneyCard("Speeding fine $50", Card.CardType.CHANCE, -50));
-        
-        // Movement cards
-        chanceCards.add(new MovementCard("Advance to GO", Card.CardType.CHANCE, 0, true));
-        chanceCards.add(new MovementCard("Advance to Illinois Avenue", Card.CardType.CHANCE, 24, true));
-        chanceCards.add(new MovementCard("Take a trip to Reading Railroad", Card.CardType.CHANCE, 5, true));
-        chanceCards.add(new MovementCard("Advance to Boardwalk", Card.CardType.CHANCE, 39, true));
-        
-        // Action cards
-        chanceCards.add(new ActionCard("Go to Jail", Card.CardType.CHANCE, ActionCard.ActionType.GO_TO_JAIL));
-        chanceCards.add(new ActionCard("Get Out of Jail Free", Card.CardType.CHANCE, ActionCard.ActionType.GET_OUT_OF_JAIL_FREE));
-        chanceCards.add(new ActionCard("Go Back 3 Spaces", Card.CardType.CHANCE, ActionCard.ActionType.GO_BACK_3_SPACES));
-        chanceCards.add(new ActionCard("Pay each player $50", Card.CardType.CHANCE, ActionCard.ActionType.PAY_EACH_PLAYER));
-        chanceCards.add(new ActionCard("Make general repairs: Pay $25 per house, $100 per hotel", Card.CardType.CHANCE, ActionCard.ActionType.REPAIRS));
-        
-        // Shuffle the deck
-        Collections.shuffle(chanceCards, random);
+    /**
+     * Check that every card moving to a fixed square targets a square of a board with the given size
+     */
+    void checkTargets(int boardSize) {
+        for (Card[] cards : new Card[][] { chanceCards, communityChestCards }) {
+            for (Card card : cards) {
+                if (card.getEffect() == CardEffect.ADVANCE && card.getOperand1() >= boardSize) {
+                    throw new IllegalArgumentException("Card \"" + card.getDescription() + "\" advances to square "
+                                                       + card.getOperand1() + " but the board has " + boardSize
+                                                       + " squares");
+                }
+            }
+        }
     }
     
-    private void initializeCommunityChestCards() {
-        communityChestCards = new ArrayList<>();
-        
-        // Money cards
-        communityChestCards.add(new MoneyCard("Bank error in your favor - collect $200", Card.CardType.COMMUNITY_CHEST, 200));
-        communityChestCards.add(new MoneyCard("Doctor's fees - pay $50", Card.CardType.COMMUNITY_CHEST, -50));
-        communityChestCards.add(new MoneyCard("From sale of stock you get $50", Card.CardType.COMMUNITY_CHEST, 50));
-        communityChestCards.add(new MoneyCard("Holiday fund matures - receive $100", Card.CardType.COMMUNITY_CHEST, 100));
-        communityChestCards.add(new MoneyCard("Income tax refund - collect $20", Card.CardType.COMMUNITY_CHEST, 20));
-        communityChestCards.add(new MoneyCard("Life insurance matures - collect $100", Card.CardType.COMMUNITY_CHEST, 100));
-        communityChestCards.add(new MoneyCard("Hospital fees - pay $100", Card.CardType.COMMUNITY_CHEST, -100));
-        communityChestCards.add(new MoneyCard("School fees - pay $50", Card.CardType.COMMUNITY_CHEST, -50));
-        
-        // Movement cards
-        communityChestCards.add(new MovementCard("Advance to GO", Card.CardType.COMMUNITY_CHEST, 0, true));
-        
-        // Action cards
-        communityChestCards.add(new ActionCard("Go to Jail", Card.CardType.COMMUNITY_CHEST, ActionCard.ActionType.GO_TO_JAIL));
-        communityChestCards.add(new ActionCard("Get Out of Jail Free", Card.CardType.COMMUNITY_CHEST, ActionCard.ActionType.GET_OUT_OF_JAIL_FREE));
-        communityChestCards.add(new ActionCard("Collect $50 from every player for opening night seats", Card.CardType.COMMUNITY_CHEST, ActionCard.ActionType.COLLECT_FROM_EACH_PLAYER));
+    private static Card[] ofType(List<Card> cards, Card.CardType type) {
+        return cards.stream().filter(card -> card.getType() == type).toArray(Card[]::new);
+    }
+    
+    private void initializeCards() {
+        chanceOrder = identityOrder(chanceCards.length);
+        communityChestOrder = identityOrder(communityChestCards.length);
         
-        // Shuffle the deck
-        Collections.shuffle(communityChestCards, random);
+        // Shuffle the decks
+        shuffle(chanceOrder);
+        shuffle(communityChestOrder);
+    }
+    
+    private static int[] identityOrder(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+    
+    /**
+     * Fisher-Yates shuffle of a deck order, in place
+     */
+    private void shuffle(int[] order) {
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
     }
     
     /**
      * Draw a Chance card
      */
     public Card drawChanceCard() {
-        if (chanceCards.isEmpty()) {
-            initializeChanceCards(); // Reshuffle when deck is empty
+        if (chanceCursor == chanceOrder.length) {
+            shuffle(chanceOrder); // Reshuffle when deck is empty
+            chanceCursor = 0;
         }
-        return chanceCards.remove(chanceCards.size() - 1);
+        return chanceCards[chanceOrder[chanceCursor++]];
     }
     
     /**
      * Draw a Community Chest card
      */
     public Card drawCommunityChestCard() {
-        if (communityChestCards.isEmpty()) {
-            initializeCommunityChestCards(); // Reshuffle when deck is empty
+        if (communityChestCursor == communityChestOrder.length) {
+            shuffle(communityChestOrder); // Reshuffle when deck is empty
+            communityChestCursor = 0;
         }
-        return communityChestCards.remove(communityChestCards.size() - 1);
+        return communityChestCards[communityChestOrder[communityChestCursor++]];
     }
     
     /**
      * Get remaining Chance cards count
      */
     public int getChanceCardsRemaining() {
-        return chanceCards.size();
+        return chanceOrder.length - chanceCursor;
     }
     
     /**
      * Get remaining Community Chest cards count
      */
     public int getCommunityChestCardsRemaining() {
-        return communityChestCards.size();
+        return communityChestOrder.length - communityChestCursor;
+    }
+    
+    /**
+     * Capture both decks' order and position: the two cursors, then the Chance order,
+     * then the Community Chest order
+     */
+    int[] getState() {
+        int[] state = new int[2 + chanceOrder.length + communityChestOrder.length];
+        state[0] = chanceCursor;
+        state[1] = communityChestCursor;
+        System.arraycopy(chanceOrder, 0, state, 2, chanceOrder.length);
+        System.arraycopy(communityChestOrder, 0, state, 2 + chanceOrder.length, communityChestOrder.length);
+        return state;
+    }
+    
+    /**
+     * Restore a state previously returned by getState()
+     */
+    void setState(int[] state) {
+        if (state.length != 2 + chanceOrder.length + communityChestOrder.length
+            || state[0] < 0 || state[0] > chanceOrder.length
+            || state[1] < 0 || state[1] > communityChestOrder.length
+            || !isPermutation(state, 2, chanceOrder.length)
+            || !isPermutation(state, 2 + chanceOrder.length, communityChestOrder.length)) {
+            throw new IllegalArgumentException("Invalid card deck state");
+        }
+        chanceCursor = state[0];
+        communityChestCursor = state[1];
+        System.arraycopy(state, 2, chanceOrder, 0, chanceOrder.length);
+        System.arraycopy(state, 2 + chanceOrder.length, communityChestOrder, 0, communityChestOrder.length);
+    }
+    
+    /**
+     * Check that values[offset..offset + length) holds each of 0..length - 1 exactly once
+     */
+    private static boolean isPermutation(int[] values, int offset, int length) {
+        boolean[] seen = new boolean[length];
+        for (int i = offset; i < offset + length; i++) {
+            int value = values[i];
+            if (value < 0 || value >= length || seen[value]) {
+                return false;
+            }
+            seen[value] = true;
+        }
+        return true;
+    }
+    
+    /**
+     * Get the random number generator used for shuffling
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+    
+    /**
+     * Get every standard card, in definition order
+     */
+    public static List<Card> getStandardCards() {
+        return Collections.unmodifiableList(STANDARD_CARDS);
+    }
+    
+    /**
+     * Get every standard Chance card, in definition order
+     */
+    public static List<Card> getChanceCards() {
+        return Collections.unmodifiableList(Arrays.asList(CHANCE_CARDS));
+    }
+    
+    /**
+     * Get every standard Community Chest card, in definition order
+     */
+    public static List<Card> getCommunityChestCards() {
+        return Collections.unmodifiableList(Arrays.asList(COMMUNITY_CHEST_CARDS));
     }
 }
\ No newline at end of file
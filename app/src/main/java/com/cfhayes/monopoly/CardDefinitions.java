@@ -0,0 +1,105 @@
+package com.cfhayes.monopoly;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads card decks from text definitions, one card per line:
+ * the deck (CHANCE or COMMUNITY_CHEST), the CardEffect, its operands and the description,
+ * separated by whitespace. Blank lines and lines starting with # are ignored.
+ *
+ * <pre>
+ * CHANCE   ADVANCE   24 1   Advance to Illinois Avenue
+ * </pre>
+ */
+public final class CardDefinitions {
+    /**
+     * Resource holding the standard Chance and Community Chest cards
+     */
+    static final String STANDARD_RESOURCE = "standard-cards.txt";
+    
+    private CardDefinitions() {
+    }
+    
+    /**
+     * Load the standard cards bundled with the game
+     */
+    public static List<Card> standard() {
+        InputStream input = CardDefinitions.class.getResourceAsStream(STANDARD_RESOURCE);
+        if (input == null) {
+            throw new IllegalStateException("Missing card definitions resource " + STANDARD_RESOURCE);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Load cards from a definition file
+     */
+    public static List<Card> read(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+    
+    /**
+     * Parse card definitions; malformed lines are reported with their line number
+     */
+    public static List<Card> read(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        List<Card> cards = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                cards.add(parse(line));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return Collections.unmodifiableList(cards);
+    }
+    
+    private static Card parse(String line) {
+        String[] fields = line.split("\\s+", 3);
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Expected a deck, an effect and a description");
+        }
+        Card.CardType type = Card.CardType.valueOf(fields[0]);
+        CardEffect effect = CardEffect.valueOf(fields[1]);
+        
+        // The operands come first and the description is the rest of the line
+        String[] rest = fields[2].split("\\s+", effect.getOperandCount() + 1);
+        if (rest.length <= effect.getOperandCount()) {
+            throw new IllegalArgumentException(effect + " needs " + effect.getOperandCount()
+                                               + " operands and a description");
+        }
+        int[] operands = new int[2];
+        for (int i = 0; i < effect.getOperandCount(); i++) {
+            try {
+                operands[i] = Integer.parseInt(rest[i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Operand is not a number: " + rest[i]);
+            }
+        }
+        return Card.of(rest[effect.getOperandCount()], type, effect, operands[0], operands[1]);
+    }
+}
\ No newline at end of file
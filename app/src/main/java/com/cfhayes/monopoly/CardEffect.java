@@ -0,0 +1,40 @@
+package com.cfhayes.monopoly;
+
+/**
+ * The opcode of a card: what it does, with up to two int operands stored on the Card.
+ * Game and CompactEngine interpret these with a switch, so drawing a card needs neither
+ * virtual dispatch nor string matching, and new decks are just data (see CardDefinitions).
+ */
+public enum CardEffect {
+    /** Collect (positive) or pay (negative) operand 1 */
+    MONEY(1),
+    /** Move to square operand 1, collecting the GO salary for passing GO if operand 2 is 1 */
+    ADVANCE(2),
+    /** Move to GO and collect the GO salary */
+    ADVANCE_TO_GO(0),
+    /** Go straight to jail */
+    GO_TO_JAIL(0),
+    /** Keep a Get Out of Jail Free card */
+    GET_OUT_OF_JAIL_FREE(0),
+    /** Move back operand 1 squares */
+    GO_BACK(1),
+    /** Pay operand 1 for general repairs */
+    REPAIRS(1),
+    /** Pay operand 1 to every other player */
+    PAY_EACH_PLAYER(1),
+    /** Collect operand 1 from every other player */
+    COLLECT_FROM_EACH_PLAYER(1);
+    
+    private final int operandCount;
+    
+    CardEffect(int operandCount) {
+        this.operandCount = operandCount;
+    }
+    
+    /**
+     * Number of operands the effect uses
+     */
+    public int getOperandCount() {
+        return operandCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,298 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Plays turns directly on a CompactGameState, following the same rules as Game.
+ * Nothing is printed and no per-turn objects are created, which makes it the engine
+ * of choice for simulations and look-ahead search.
+ */
+public class CompactEngine {
+    private Dice dice;
+    private CardDeck cardDeck;
+    private PurchasePolicy[] policies;
+    
+    /**
+     * Create an engine where every player uses the same purchase policy
+     */
+    public CompactEngine(Dice dice, CardDeck cardDeck, PurchasePolicy policy) {
+        this(dice, cardDeck, new PurchasePolicy[] { policy });
+    }
+    
+    /**
+     * Create an engine with one purchase policy per seat (the last one is reused for extra seats)
+     */
+    public CompactEngine(Dice dice, CardDeck cardDeck, PurchasePolicy[] policies) {
+        if (policies.length == 0) {
+            throw new IllegalArgumentException("At least one purchase policy is required");
+        }
+        this.dice = dice;
+        this.cardDeck = cardDeck;
+        this.policies = policies.clone();
+    }
+    
+    /**
+     * Play turns until the game is over or maxTurns turns have been played.
+     * Returns the number of turns played.
+     */
+    public int play(CompactGameState state, int maxTurns) {
+        int turnsPlayed = 0;
+        while (!state.isGameOver() && turnsPlayed < maxTurns) {
+            playTurn(state);
+            turnsPlayed++;
+        }
+        return turnsPlayed;
+    }
+    
+    /**
+     * Play one turn for the current player and pass play to the next seat
+     */
+    public void playTurn(CompactGameState state) {
+        int player = state.getCurrentPlayer();
+        state.setTurn(state.getTurn() + 1);
+        
+        dice.resetDoublesCount();
+        if (state.isInJail(player) && policyFor(player).shouldLeaveJail(state, player)) {
+            leaveJailEarly(state, player);
+        }
+        rollUntilDone(state, player, true);
+    }
+    
+    /**
+     * Finish a turn that was interrupted after the current player rolled doublesRolled doubles
+     * in a row: they roll again if they still have money, then play passes to the next seat.
+     * Used to continue a turn captured from a Game in the middle of resolving a roll.
+     */
+    public void continueTurn(CompactGameState state, int doublesRolled) {
+        int player = state.getCurrentPlayer();
+        dice.restoreRoll(1, 1, doublesRolled);
+        rollUntilDone(state, player, TurnRules.mayRollAgain(state.isInJail(player), state.getCash(player)));
+    }
+    
+    /**
+     * Roll for a player until they stop rolling doubles, then pass play to the next seat
+     */
+    private void rollUntilDone(CompactGameState state, int player, boolean rollAgain) {
+        while (rollAgain) {
+            rollAgain = false;
+            int roll = dice.roll();
+            switch (TurnRules.afterRoll(state.isInJail(player), state.getJailTurns(player), dice.isDoubles(),
+                                        dice.getDoublesCount())) {
+                case SPEEDING:
+                    sendToJail(state, player);
+                    break;
+                case STAY_IN_JAIL:
+                    state.setJailTurns(player, state.getJailTurns(player) + 1);
+                    break;
+                case PAY_AND_LEAVE_JAIL:
+                    state.subtractCash(player, TurnRules.JAIL_FINE);
+                    state.setInJail(player, false);
+                    move(state, player, roll);
+                    break;
+                case LEAVE_JAIL:
+                    state.setInJail(player, false);
+                    move(state, player, roll);
+                    break;
+                case MOVE:
+                    move(state, player, roll);
+                    break;
+                case MOVE_AND_ROLL_AGAIN:
+                    move(state, player, roll);
+                    rollAgain = TurnRules.mayRollAgain(state.isInJail(player), state.getCash(player));
+                    break;
+            }
+        }
+        state.setCurrentPlayer((player + 1) % state.getPlayerCount());
+    }
+    
+    /**
+     * Move a player forward by a roll, collecting the GO salary for passing GO, and handle the landing
+     */
+    private void move(CompactGameState state, int player, int roll) {
+        int oldPosition = state.getPosition(player);
+        int newPosition = (oldPosition + roll) % state.getLayout().getSize();
+        state.setPosition(player, newPosition);
+        
+        // Check if player passed GO
+        if (newPosition < oldPosition) {
+            state.addCash(player, state.getLayout().getGoSalary());
+        }
+        
+        land(state, player, newPosition);
+    }
+    
+    /**
+     * Get a player out of jail before rolling: with a card if they hold one, else by paying the fine
+     */
+    private void leaveJailEarly(CompactGameState state, int player) {
+        if (state.getJailFreeCards(player) > 0) {
+            state.setJailFreeCards(player, state.getJailFreeCards(player) - 1);
+            state.setInJail(player, false);
+        } else if (state.getCash(player) >= TurnRules.JAIL_FINE) {
+            state.subtractCash(player, TurnRules.JAIL_FINE);
+            state.setInJail(player, false);
+        }
+    }
+    
+    /**
+     * Handle a player landing on a square after a dice roll
+     */
+    private void land(CompactGameState state, int player, int square) {
+        SquareKind kind = state.getLayout().getKind(square);
+        if (kind.isOwnable()) {
+            int owner = state.getOwner(square);
+            if (owner == CompactGameState.NO_OWNER) {
+                offerPurchase(state, player, square);
+            } else if (owner != player) {
+                payRent(state, player, owner, square);
+            }
+        } else if (kind == SquareKind.CHANCE) {
+            applyCard(state, player, cardDeck.drawChanceCard());
+        } else if (kind == SquareKind.COMMUNITY_CHEST) {
+            applyCard(state, player, cardDeck.drawCommunityChestCard());
+        } else {
+            landOnSpecial(state, player, square);
+        }
+    }
+    
+    /**
+     * Handle a player being moved onto a square by a card: rent is paid but nothing is
+     * offered for sale and no further cards are drawn
+     */
+    private void landFromCard(CompactGameState state, int player, int square) {
+        SquareKind kind = state.getLayout().getKind(square);
+        if (kind.isOwnable()) {
+            int owner = state.getOwner(square);
+            if (owner != CompactGameState.NO_OWNER && owner != player) {
+                payRent(state, player, owner, square);
+            }
+        } else if (kind != SquareKind.CHANCE && kind != SquareKind.COMMUNITY_CHEST) {
+            landOnSpecial(state, player, square);
+        }
+    }
+    
+    private void offerPurchase(CompactGameState state, int player, int square) {
+        int price = state.getLayout().getPrice(square);
+        if (policyFor(player).shouldBuy(state, player, square) && state.getCash(player) >= price) {
+            state.subtractCash(player, price);
+            state.setOwner(square, player);
+        }
+    }
+    
+    private void payRent(CompactGameState state, int player, int owner, int square) {
+        if (state.isMortgaged(square)) {
+            return;
+        }
+        int rent = rent(state, owner, square);
+        state.subtractCash(player, rent);
+        state.addCash(owner, rent);
+    }
+    
+    /**
+     * Look up rent for a square from its rent table, the same way Property.calculateRent does
+     */
+    static int rent(CompactGameState state, int owner, int square) {
+        BoardLayout layout = state.getLayout();
+        RentTable rentTable = layout.getRentTable(square);
+        switch (layout.getKind(square)) {
+            case RAILROAD:
+                return rentTable.getRentForCount(state.getRailroadsOwned(owner));
+            case UTILITY:
+                return rentTable.getRentForCount(state.getUtilitiesOwned(owner));
+            default:
+                int level = state.getHouses(square);
+                int group = layout.getGroup(square);
+                boolean monopoly = group >= 0 && state.ownsGroup(owner, group);
+                return rentTable.getRent(RentTable.regularLevel(level == CompactGameState.HOTEL ? 0 : level,
+                                                                level == CompactGameState.HOTEL, monopoly));
+        }
+    }
+    
+    private void landOnSpecial(CompactGameState state, int player, int square) {
+        switch (state.getLayout().getKind(square)) {
+            case GO:
+                state.addCash(player, state.getLayout().getAmount(square));
+                break;
+            case INCOME_TAX:
+            case LUXURY_TAX:
+                state.subtractCash(player, state.getLayout().getAmount(square));
+                break;
+            case GO_TO_JAIL:
+                sendToJail(state, player);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void sendToJail(CompactGameState state, int player) {
+        state.setPosition(player, state.getLayout().getJailPosition());
+        state.setInJail(player, true);
+    }
+    
+    /**
+     * Apply a drawn card's effect, interpreting its opcode the same way Game does
+     */
+    private void applyCard(CompactGameState state, int player, Card card) {
+        switch (card.getEffect()) {
+            case MONEY:
+                int amount = card.getOperand1();
+                if (amount > 0) {
+                    state.addCash(player, amount);
+                } else {
+                    state.subtractCash(player, -amount);
+                }
+                break;
+            case ADVANCE:
+                int target = card.getOperand1();
+                if (card.getOperand2() != 0 && (target < state.getPosition(player) || target == 0)) {
+                    state.addCash(player, state.getLayout().getGoSalary());
+                }
+                state.setPosition(player, target);
+                landFromCard(state, player, target);
+                break;
+            case ADVANCE_TO_GO:
+                state.setPosition(player, 0);
+                state.addCash(player, state.getLayout().getGoSalary());
+                break;
+            case GO_TO_JAIL:
+                sendToJail(state, player);
+                break;
+            case GET_OUT_OF_JAIL_FREE:
+                state.setJailFreeCards(player, state.getJailFreeCards(player) + 1);
+                break;
+            case GO_BACK:
+                int size = state.getLayout().getSize();
+                int square = Math.floorMod(state.getPosition(player) - card.getOperand1(), size);
+                state.setPosition(player, square);
+                int owner = state.getOwner(square);
+                if (state.getLayout().isOwnable(square) && owner != CompactGameState.NO_OWNER && owner != player) {
+                    payRent(state, player, owner, square);
+                }
+                break;
+            case REPAIRS:
+                state.subtractCash(player, card.getOperand1());
+                break;
+            case PAY_EACH_PLAYER:
+                for (int other = 0; other < state.getPlayerCount(); other++) {
+                    if (other != player) {
+                        int payment = Math.min(card.getOperand1(), state.getCash(player));
+                        state.subtractCash(player, payment);
+                        state.addCash(other, payment);
+                    }
+                }
+                break;
+            case COLLECT_FROM_EACH_PLAYER:
+                for (int other = 0; other < state.getPlayerCount(); other++) {
+                    if (other != player) {
+                        int payment = Math.min(card.getOperand1(), state.getCash(other));
+                        state.subtractCash(other, payment);
+                        state.addCash(player, payment);
+                    }
+                }
+                break;
+        }
+    }
+    
+    private PurchasePolicy policyFor(int player) {
+        return policies[Math.min(player, policies.length - 1)];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,412 @@
+package com.cfhayes.monopoly;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Primitive, struct-of-arrays representation of a game in progress.
+ * Players are identified by their seat index and squares by their board position;
+ * the board itself is described by a shared, immutable BoardLayout.
+ *
+ * copy() is cheap enough for look-ahead search: the small per-player arrays are copied
+ * straight away, while the per-square arrays are shared until either state changes them.
+ */
+public class CompactGameState {
+    /**
+     * Owner value for squares still held by the bank
+     */
+    public static final byte NO_OWNER = -1;
+    
+    /**
+     * Development level stored for a hotel
+     */
+    public static final byte HOTEL = 5;
+    
+    private final BoardLayout layout;
+    private final int playerCount;
+    
+    // Per-player state
+    private final int[] positions;
+    private final int[] cash;
+    private final byte[] jailTurns;
+    private final byte[] jailFreeCards;
+    private int inJailMask;
+    
+    // Per-square state, copied on first write while shared with a copy
+    private byte[] owners;
+    private byte[] houses;
+    private long[] mortgaged;
+    
+    // Ownership counts, maintained by setOwner so rent lookups never scan the board
+    // (shared along with the per-square state)
+    private byte[] railroadsOwned;
+    private byte[] utilitiesOwned;
+    private byte[] groupCounts;
+    private boolean squaresShared;
+    
+    private int currentPlayer;
+    private int turn;
+    
+    /**
+     * Create the state of a new game: everyone on GO with the same cash, all squares unowned
+     */
+    public CompactGameState(BoardLayout layout, int playerCount, int startingCash) {
+        if (playerCount < 1 || playerCount > 8) {
+            throw new IllegalArgumentException("Player count must be between 1 and 8");
+        }
+        this.layout = layout;
+        this.playerCount = playerCount;
+        this.positions = new int[playerCount];
+        this.cash = new int[playerCount];
+        this.jailTurns = new byte[playerCount];
+        this.jailFreeCards = new byte[playerCount];
+        this.owners = new byte[layout.getSize()];
+        this.houses = new byte[layout.getSize()];
+        this.mortgaged = new long[(layout.getSize() + 63) >>> 6];
+        this.railroadsOwned = new byte[playerCount];
+        this.utilitiesOwned = new byte[playerCount];
+        this.groupCounts = new byte[playerCount * layout.getGroupCount()];
+        Arrays.fill(cash, startingCash);
+        Arrays.fill(owners, NO_OWNER);
+    }
+    
+    /**
+     * Create a copy sharing the per-square arrays with this state until either one changes them
+     */
+    private CompactGameState(CompactGameState source) {
+        this.layout = source.layout;
+        this.playerCount = source.playerCount;
+        this.positions = source.positions.clone();
+        this.cash = source.cash.clone();
+        this.jailTurns = source.jailTurns.clone();
+        this.jailFreeCards = source.jailFreeCards.clone();
+        this.inJailMask = source.inJailMask;
+        this.owners = source.owners;
+        this.houses = source.houses;
+        this.mortgaged = source.mortgaged;
+        this.railroadsOwned = source.railroadsOwned;
+        this.utilitiesOwned = source.utilitiesOwned;
+        this.groupCounts = source.groupCounts;
+        this.currentPlayer = source.currentPlayer;
+        this.turn = source.turn;
+        this.squaresShared = true;
+        source.squaresShared = true;
+    }
+    
+    /**
+     * Create an independent copy of this state (copy-on-write, see the class comment).
+     * Several threads may copy the same state as long as nobody modifies it meanwhile.
+     */
+    public CompactGameState copy() {
+        return new CompactGameState(this);
+    }
+    
+    /**
+     * Take private copies of the shared per-square arrays before the first write
+     */
+    private void unshareSquares() {
+        if (squaresShared) {
+            owners = owners.clone();
+            houses = houses.clone();
+            mortgaged = mortgaged.clone();
+            railroadsOwned = railroadsOwned.clone();
+            utilitiesOwned = utilitiesOwned.clone();
+            groupCounts = groupCounts.clone();
+            squaresShared = false;
+        }
+    }
+    
+    /**
+     * Check whether this state still shares its per-square arrays with a copy
+     */
+    boolean isSharingSquares() {
+        return squaresShared;
+    }
+    
+    /**
+     * Capture the current state of a game
+     */
+    public static CompactGameState of(Game game) {
+        CompactGameState state = of(game.getPlayers(), game.getBoard());
+        state.currentPlayer = game.getPlayers().indexOf(game.getCurrentPlayer());
+        state.turn = game.getTurnCount();
+        return state;
+    }
+    
+    /**
+     * Capture the state of the given players and board
+     */
+    public static CompactGameState of(List<Player> players, Board board) {
+        CompactGameState state = new CompactGameState(BoardLayout.of(board), players.size(), 0);
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            state.positions[i] = player.getPosition();
+            state.cash[i] = player.getMoney();
+            state.jailTurns[i] = (byte) player.getJailTurns();
+            state.setInJail(i, player.isInJail());
+            state.jailFreeCards[i] = (byte) player.getJailFreeCards();
+        }
+        for (int square = 0; square < board.getSize(); square++) {
+            BoardSpace space = board.getSpace(square);
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                state.setOwner(square, property.isOwned() ? players.indexOf(property.getOwner()) : NO_OWNER);
+                state.setHouses(square, property.hasHotel() ? HOTEL : property.getHouses());
+            }
+        }
+        return state;
+    }
+    
+    /**
+     * Write this state back onto existing Player and Property objects.
+     * The players must be in seat order and the board must match this state's layout.
+     */
+    public void applyTo(List<Player> players, Board board) {
+        if (players.size() != playerCount || board.getSize() != layout.getSize()) {
+            throw new IllegalArgumentException("Players and board do not match this state");
+        }
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            player.setPosition(positions[i]);
+            player.setMoney(cash[i]);
+            player.setInJail(isInJail(i));
+            player.setJailTurns(jailTurns[i]);
+            player.setJailFreeCards(jailFreeCards[i]);
+            for (Property property : player.getProperties()) {
+                player.removeProperty(property);
+            }
+        }
+        for (int square = 0; square < board.getSize(); square++) {
+            BoardSpace space = board.getSpace(square);
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                Player owner = owners[square] == NO_OWNER ? null : players.get(owners[square]);
+                property.setOwner(owner);
+                if (houses[square] == HOTEL) {
+                    property.setHasHotel(true);
+                } else {
+                    property.setHasHotel(false);
+                    property.setHouses(houses[square]);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Write this state back onto a game, including whose turn it is
+     */
+    public void applyTo(Game game) {
+        applyTo(game.getPlayers(), game.getBoard());
+        game.restoreTurn(currentPlayer, turn);
+    }
+    
+    public BoardLayout getLayout() {
+        return layout;
+    }
+    
+    public int getPlayerCount() {
+        return playerCount;
+    }
+    
+    public int getPosition(int player) {
+        return positions[player];
+    }
+    
+    public void setPosition(int player, int position) {
+        positions[player] = position;
+    }
+    
+    public int getCash(int player) {
+        return cash[player];
+    }
+    
+    public void setCash(int player, int amount) {
+        cash[player] = amount;
+    }
+    
+    public void addCash(int player, int amount) {
+        cash[player] += amount;
+    }
+    
+    /**
+     * Take money from a player without going below zero (like Player.subtractMoney)
+     */
+    public void subtractCash(int player, int amount) {
+        cash[player] = Math.max(0, cash[player] - amount);
+    }
+    
+    public boolean isInJail(int player) {
+        return (inJailMask & (1 << player)) != 0;
+    }
+    
+    public void setInJail(int player, boolean inJail) {
+        if (inJail) {
+            inJailMask |= 1 << player;
+        } else {
+            inJailMask &= ~(1 << player);
+            jailTurns[player] = 0;
+        }
+    }
+    
+    public int getJailTurns(int player) {
+        return jailTurns[player];
+    }
+    
+    public void setJailTurns(int player, int turns) {
+        jailTurns[player] = (byte) turns;
+    }
+    
+    /**
+     * Get the number of Get Out of Jail Free cards a player holds
+     */
+    public int getJailFreeCards(int player) {
+        return jailFreeCards[player];
+    }
+    
+    public void setJailFreeCards(int player, int cards) {
+        jailFreeCards[player] = (byte) cards;
+    }
+    
+    /**
+     * Get the seat index of a square's owner, or NO_OWNER
+     */
+    public int getOwner(int square) {
+        return owners[square];
+    }
+    
+    public void setOwner(int square, int player) {
+        int previous = owners[square];
+        if (previous == player) {
+            return;
+        }
+        unshareSquares();
+        if (previous != NO_OWNER) {
+            updateOwnershipCounts(previous, square, -1);
+        }
+        owners[square] = (byte) player;
+        if (player != NO_OWNER) {
+            updateOwnershipCounts(player, square, 1);
+        }
+    }
+    
+    private void updateOwnershipCounts(int player, int square, int delta) {
+        switch (layout.getKind(square)) {
+            case RAILROAD:
+                railroadsOwned[player] = (byte) (railroadsOwned[player] + delta);
+                break;
+            case UTILITY:
+                utilitiesOwned[player] = (byte) (utilitiesOwned[player] + delta);
+                break;
+            default:
+                int group = layout.getGroup(square);
+                if (group >= 0) {
+                    int index = player * layout.getGroupCount() + group;
+                    groupCounts[index] = (byte) (groupCounts[index] + delta);
+                }
+                break;
+        }
+    }
+    
+    /**
+     * Get a square's development level: 0-4 houses, or HOTEL
+     */
+    public int getHouses(int square) {
+        return houses[square];
+    }
+    
+    public void setHouses(int square, int level) {
+        if (houses[square] == level) {
+            return;
+        }
+        unshareSquares();
+        houses[square] = (byte) level;
+    }
+    
+    public boolean isMortgaged(int square) {
+        return (mortgaged[square >>> 6] & (1L << square)) != 0;
+    }
+    
+    public void setMortgaged(int square, boolean isMortgaged) {
+        if (isMortgaged(square) == isMortgaged) {
+            return;
+        }
+        unshareSquares();
+        if (isMortgaged) {
+            mortgaged[square >>> 6] |= 1L << square;
+        } else {
+            mortgaged[square >>> 6] &= ~(1L << square);
+        }
+    }
+    
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+    
+    public void setCurrentPlayer(int player) {
+        this.currentPlayer = player;
+    }
+    
+    public int getTurn() {
+        return turn;
+    }
+    
+    public void setTurn(int turn) {
+        this.turn = turn;
+    }
+    
+    public int getRailroadsOwned(int player) {
+        return railroadsOwned[player];
+    }
+    
+    public int getUtilitiesOwned(int player) {
+        return utilitiesOwned[player];
+    }
+    
+    /**
+     * Get the number of squares of a color group owned by a player
+     */
+    public int getOwnedInGroup(int player, int group) {
+        return groupCounts[player * layout.getGroupCount() + group];
+    }
+    
+    /**
+     * Check if a player owns every square of a color group
+     */
+    public boolean ownsGroup(int player, int group) {
+        return getOwnedInGroup(player, group) >= layout.getGroupSize(group);
+    }
+    
+    /**
+     * Check if the game is over (at most one player with money left)
+     */
+    public boolean isGameOver() {
+        int playersWithMoney = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (cash[i] > 0) {
+                playersWithMoney++;
+            }
+        }
+        return playersWithMoney <= 1;
+    }
+    
+    /**
+     * Get the seat of the winner, or -1 if the game is not over or nobody has money left
+     */
+    public int getWinner() {
+        if (!isGameOver()) {
+            return -1;
+        }
+        for (int i = 0; i < playerCount; i++) {
+            if (cash[i] > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CompactGameState{turn=%d, current=%d, positions=%s, cash=%s}",
+                             turn, currentPlayer, Arrays.toString(positions), Arrays.toString(cash));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.cfhayes.monopoly;
+
+import java.io.InputStream;
+import java.util.Scanner;
+
+/**
+ * Reads player decisions from the console.
+ */
+public class ConsoleDecisionMaker implements DecisionMaker {
+    private Scanner scanner;
+    private GameOutput output;
+    
+    public ConsoleDecisionMaker() {
+        this(System.in, GameOutput.CONSOLE);
+    }
+    
+    public ConsoleDecisionMaker(InputStream input, GameOutput output) {
+        this.scanner = new Scanner(input);
+        this.output = output;
+    }
+    
+    @Override
+    public void awaitRoll(Player player, Game game) {
+        output.println("Press Enter to roll dice...");
+        scanner.nextLine();
+    }
+    
+    @Override
+    public boolean shouldLeaveJail(Player player, Game game) {
+        String way = player.getJailFreeCards() > 0 ? "Use your Get Out of Jail Free card"
+                                                   : "Pay $" + TurnRules.JAIL_FINE;
+        output.println("You are in jail. " + way + " to get out? (y/n)");
+        return scanner.nextLine().toLowerCase().equals("y");
+    }
+    
+    @Override
+    public boolean shouldBuyProperty(Player player, Property property, Game game) {
+        output.println("This property costs $" + property.getPrice() + ". Buy it? (y/n)");
+        String response = scanner.nextLine().toLowerCase();
+        return response.equals("y");
+    }
+    
+    /**
+     * Release the underlying scanner
+     */
+    public void close() {
+        scanner.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Renders game events as the familiar text messages
+ */
+public class ConsoleEventRenderer implements GameEventSink {
+    private final GameOutput output;
+    
+    public ConsoleEventRenderer() {
+        this(GameOutput.CONSOLE);
+    }
+    
+    public ConsoleEventRenderer(GameOutput output) {
+        this.output = output;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return output.isEnabled();
+    }
+    
+    @Override
+    public void accept(GameEvent event) {
+        if (event instanceof GameEvent.GameStarted) {
+            output.println("Game started!");
+        } else if (event instanceof GameEvent.TurnStarted e) {
+            output.println("\n" + e.player().getName() + "'s turn");
+            output.println("Current position: " + e.position());
+            output.println("Current money: $" + e.money());
+        } else if (event instanceof GameEvent.DiceRolled e) {
+            output.println("Rolled: " + e.roll());
+        } else if (event instanceof GameEvent.Moved e) {
+            output.println("Moved to position: " + e.to());
+        } else if (event instanceof GameEvent.PassedGo e) {
+            output.println("Passed GO! Collected $" + e.amount());
+        } else if (event instanceof GameEvent.Landed e) {
+            renderLanding(e.space());
+        } else if (event instanceof GameEvent.Purchased e) {
+            output.println("You bought " + e.property().getName() + "!");
+        } else if (event instanceof GameEvent.PurchaseDeclined e) {
+            if (e.couldAfford()) {
+                output.println("You declined to buy " + e.property().getName() + ".");
+            } else {
+                output.println("You don't have enough money to buy " + e.property().getName() +
+                               "! You have $" + e.player().getMoney() + " but it costs $" + e.property().getPrice() + ".");
+            }
+        } else if (event instanceof GameEvent.RentPaid e) {
+            output.println("Paid $" + e.amount() + " rent to " + e.owner().getName());
+        } else if (event instanceof GameEvent.CardDrawn e) {
+            output.println("You drew: " + e.card().getDescription());
+        } else if (event instanceof GameEvent.CashChanged e) {
+            if (e.amount() >= 0) {
+                output.println("Received $" + e.amount() + " (" + e.reason() + ")");
+            } else {
+                output.println("Paid $" + -e.amount() + " (" + e.reason() + ")");
+            }
+            output.println("Your balance is now $" + e.balance());
+        } else if (event instanceof GameEvent.Jailed) {
+            output.println("Go to Jail! Do not pass GO, do not collect $200");
+        } else if (event instanceof GameEvent.LeftJail e) {
+            output.println(e.player().getName() + " is out of jail");
+        } else if (event instanceof GameEvent.Bankrupt e) {
+            output.println(e.player().getName() + " is bankrupt!");
+        } else if (event instanceof GameEvent.GameEnded e) {
+            if (e.winner() != null) {
+                output.println("\nGame Over! " + e.winner().getName() + " wins!");
+            } else {
+                output.println("\nGame Over! No winner.");
+            }
+        }
+    }
+    
+    private void renderLanding(BoardSpace space) {
+        output.println("Landed on: " + space.getName());
+        if (space instanceof Property) {
+            Property property = (Property) space;
+            if (property.getOwner() == null) {
+                output.println(property.getName() + " is available for $" + property.getPrice());
+            }
+            return;
+        }
+        switch (space.getKind()) {
+            case JAIL:
+                output.println("Just visiting jail");
+                break;
+            case FREE_PARKING:
+                output.println("Free Parking - just relaxing!");
+                break;
+            default:
+                break;
+        }
+    }
+}
\ No newline at end of file
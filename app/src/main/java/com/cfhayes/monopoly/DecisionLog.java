@@ -0,0 +1,47 @@
+package com.cfhayes.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * The yes/no decisions made during a game, in the order they were made, packed one bit each
+ */
+public class DecisionLog {
+    private long[] bits = new long[4];
+    private int size;
+    
+    /**
+     * Append a decision
+     */
+    public void add(boolean decision) {
+        if (size == bits.length * 64) {
+            bits = Arrays.copyOf(bits, bits.length * 2);
+        }
+        if (decision) {
+            bits[size >>> 6] |= 1L << size;
+        }
+        size++;
+    }
+    
+    /**
+     * Get the decision made at the given index
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Decision " + index + " of " + size);
+        }
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append(get(i) ? '1' : '0');
+        }
+        return builder.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Source of the choices a player makes during their turn.
+ * Interactive games read them from the console, headless games plug in a strategy.
+ */
+public interface DecisionMaker {
+    /**
+     * Buys every property the player lands on (if they can afford it)
+     */
+    DecisionMaker ALWAYS_BUY = (player, property, game) -> true;
+    
+    /**
+     * Never buys anything
+     */
+    DecisionMaker NEVER_BUY = (player, property, game) -> false;
+    
+    /**
+     * Called before the player rolls the dice (interactive players wait here)
+     */
+    default void awaitRoll(Player player, Game game) {
+    }
+    
+    /**
+     * Decide whether a jailed player leaves jail before rolling, using a Get Out of Jail Free
+     * card if they hold one and paying the fine otherwise. By default players try for doubles.
+     */
+    default boolean shouldLeaveJail(Player player, Game game) {
+        return false;
+    }
+    
+    /**
+     * Decide whether the player buys the unowned property they landed on
+     */
+    boolean shouldBuyProperty(Player player, Property property, Game game);
+}
\ No newline at end of file
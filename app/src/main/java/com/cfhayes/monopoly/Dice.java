@@ -1,26 +1,33 @@
 package com.cfhayes.monopoly;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a pair of dice for the Monopoly game.
+ * Any RandomGenerator can drive the dice; the default is a GameRandom.
  */
 public class Dice {
-    private Random random;
+    private RandomGenerator random;
     private int lastRoll1;
     private int lastRoll2;
     private int doublesCount;
     
     public Dice() {
-        this.random = new Random();
-        this.doublesCount = 0;
+        this(new GameRandom());
     }
     
     /**
      * Constructor for testing with a specific seed
      */
     public Dice(long seed) {
-        this.random = new Random(seed);
+        this(new GameRandom(seed));
+    }
+    
+    /**
+     * Create dice driven by the given random number generator
+     */
+    public Dice(RandomGenerator random) {
+        this.random = random;
         this.doublesCount = 0;
     }
     
@@ -28,8 +35,17 @@ public class Dice {
      * Roll both dice and return the total
      */
     public int roll() {
-        lastRoll1 = random.nextInt(6) + 1; // 1-6
-        lastRoll2 = random.nextInt(6) + 1; // 1-6
+        int die1 = random.nextInt(6) + 1; // 1-6
+        int die2 = random.nextInt(6) + 1; // 1-6
+        return setRoll(die1, die2);
+    }
+    
+    /**
+     * Record a new roll, updating the doubles streak, and return its total
+     */
+    int setRoll(int die1, int die2) {
+        lastRoll1 = die1;
+        lastRoll2 = die2;
         
         if (isDoubles()) {
             doublesCount++;
@@ -40,6 +56,22 @@ public class Dice {
         return getTotal();
     }
     
+    /**
+     * Put the dice back to a previously captured roll and doubles streak
+     */
+    void restoreRoll(int die1, int die2, int doublesCount) {
+        this.lastRoll1 = die1;
+        this.lastRoll2 = die2;
+        this.doublesCount = doublesCount;
+    }
+    
+    /**
+     * Get the random number generator behind these dice
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+    
     /**
      * Get the total of the last roll
      */
@@ -91,7 +123,7 @@ public class Dice {
     
     @Override
     public String toString() {
-        return String.format("Dice rolled: %d + %d = %d%s", 
+        return String.format("Dice rolled: %d + %d = %d%s",
                            lastRoll1, lastRoll2, getTotal(),
                            isDoubles() ? " (DOUBLES!)" : "");
     }
@@ -0,0 +1,45 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps every event in memory, in order (for tests and post-game analysis)
+ */
+public class EventBuffer implements GameEventSink {
+    private final List<GameEvent> events = new ArrayList<>();
+    
+    @Override
+    public void accept(GameEvent event) {
+        events.add(event);
+    }
+    
+    /**
+     * Get all events received so far (read-only view)
+     */
+    public List<GameEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+    
+    /**
+     * Get the events of one type, in order
+     */
+    public <T extends GameEvent> List<T> getEvents(Class<T> type) {
+        List<T> matching = new ArrayList<>();
+        for (GameEvent event : events) {
+            if (type.isInstance(event)) {
+                matching.add(type.cast(event));
+            }
+        }
+        return matching;
+    }
+    
+    public int size() {
+        return events.size();
+    }
+    
+    public void clear() {
+        events.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.cfhayes.monopoly;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Record layout shared by EventLogWriter and EventLogReader.
+ *
+ * A log starts with MAGIC and VERSION, followed by records of one tag byte and
+ * varint fields. Players and strings are written once as definitions and then
+ * referred to by id; the player table restarts at every GAME_STARTED.
+ */
+final class EventLogFormat {
+    static final int MAGIC = 0x4D4E504C; // "MNPL"
+    static final byte VERSION = 2; // 2: LEFT_JAIL records
+    
+    static final byte GAME_STARTED = 0;
+    static final byte TURN_STARTED = 1;
+    static final byte DICE_ROLLED = 2;
+    static final byte MOVED = 3;
+    static final byte PASSED_GO = 4;
+    static final byte LANDED = 5;
+    static final byte PURCHASED = 6;
+    static final byte PURCHASE_DECLINED = 7;
+    static final byte RENT_PAID = 8;
+    static final byte CARD_DRAWN = 9;
+    static final byte CASH_CHANGED = 10;
+    static final byte JAILED = 11;
+    static final byte BANKRUPT = 12;
+    static final byte GAME_ENDED = 13;
+    static final byte DEFINE_PLAYER = 14;
+    static final byte DEFINE_STRING = 15;
+    static final byte LEFT_JAIL = 16;
+    
+    /**
+     * Upper bound on the size of any record except definitions
+     */
+    static final int MAX_RECORD_SIZE = 32;
+    
+    private EventLogFormat() {
+    }
+    
+    /**
+     * Write a non-negative int as an unsigned LEB128 varint
+     */
+    static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    /**
+     * Write a signed int with zigzag encoding so small negative amounts stay small
+     */
+    static void writeSignedVarint(ByteBuffer buffer, int value) {
+        writeVarint(buffer, (value << 1) ^ (value >> 31));
+    }
+    
+    static int decodeZigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.cfhayes.monopoly;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cfhayes.monopoly.EventLogFormat.*;
+
+/**
+ * Streams the events back out of a log written by EventLogWriter.
+ *
+ * Squares are resolved against a board and cards against the standard decks, so the
+ * events can be fed to any sink (for example a ConsoleEventRenderer). Players are
+ * stand-in Player objects carrying the logged names.
+ */
+public class EventLogReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Board board;
+    private final List<Player> players = new ArrayList<>();
+    private final List<String> strings = new ArrayList<>();
+    
+    public EventLogReader(Path path) throws IOException {
+        this(path, new Board());
+    }
+    
+    public EventLogReader(Path path, Board board) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.buffer.flip();
+        this.board = board;
+        if (!fill(5) || buffer.getInt() != MAGIC) {
+            channel.close();
+            throw new IOException("Not an event log: " + path);
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            channel.close();
+            throw new IOException("Unsupported event log version " + version);
+        }
+    }
+    
+    /**
+     * Read the next event, or return null at the end of the log
+     */
+    public GameEvent next() throws IOException {
+        while (fill(1)) {
+            byte tag = buffer.get();
+            switch (tag) {
+                case DEFINE_PLAYER:
+                    int playerId = readVarint();
+                    Player player = new Player(readString(), 0);
+                    if (playerId == players.size()) {
+                        players.add(player);
+                    } else {
+                        players.set(playerId, player);
+                    }
+                    break;
+                case DEFINE_STRING:
+                    int stringId = readVarint();
+                    String value = readString();
+                    if (stringId == strings.size()) {
+                        strings.add(value);
+                    } else {
+                        strings.set(stringId, value);
+                    }
+                    break;
+                case GAME_STARTED:
+                    players.clear();
+                    return new GameEvent.GameStarted(readVarint());
+                case TURN_STARTED:
+                    return new GameEvent.TurnStarted(readPlayer(), readVarint(), readVarint(), readSignedVarint());
+                case DICE_ROLLED:
+                    return new GameEvent.DiceRolled(readPlayer(), readVarint());
+                case MOVED:
+                    return new GameEvent.Moved(readPlayer(), readVarint(), readVarint());
+                case PASSED_GO:
+                    return new GameEvent.PassedGo(readPlayer(), readVarint());
+                case LANDED:
+                    return new GameEvent.Landed(readPlayer(), board.getSpace(readVarint()));
+                case PURCHASED:
+                    return new GameEvent.Purchased(readPlayer(), readProperty(), readVarint());
+                case PURCHASE_DECLINED:
+                    return new GameEvent.PurchaseDeclined(readPlayer(), readProperty(), readByte() != 0);
+                case RENT_PAID:
+                    return new GameEvent.RentPaid(readPlayer(), readPlayer(), readProperty(), readVarint());
+                case CARD_DRAWN:
+                    return new GameEvent.CardDrawn(readPlayer(), readCard());
+                case CASH_CHANGED:
+                    return new GameEvent.CashChanged(readPlayer(), readSignedVarint(), strings.get(readVarint()),
+                                                     readSignedVarint());
+                case JAILED:
+                    return new GameEvent.Jailed(readPlayer());
+                case LEFT_JAIL:
+                    return new GameEvent.LeftJail(readPlayer());
+                case BANKRUPT:
+                    return new GameEvent.Bankrupt(readPlayer());
+                case GAME_ENDED:
+                    int winner = readVarint();
+                    return new GameEvent.GameEnded(winner == 0 ? null : players.get(winner - 1));
+                default:
+                    throw new IOException("Corrupt event log: unknown record tag " + tag);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Stream every remaining event into a sink; returns the number of events read
+     */
+    public long readAll(GameEventSink sink) throws IOException {
+        long count = 0;
+        GameEvent event;
+        while ((event = next()) != null) {
+            sink.accept(event);
+            count++;
+        }
+        return count;
+    }
+    
+    private Player readPlayer() throws IOException {
+        return players.get(readVarint());
+    }
+    
+    private Property readProperty() throws IOException {
+        return (Property) board.getSpace(readVarint());
+    }
+    
+    private Card readCard() throws IOException {
+        Card.CardType type = Card.CardType.values()[readByte()];
+        int index = readVarint() - 1;
+        if (index < 0) {
+            // Not a standard card: stand in a card with the logged description
+            return new MoneyCard(strings.get(readVarint()), type, 0);
+        }
+        List<Card> deck = type == Card.CardType.CHANCE ? CardDeck.getChanceCards() : CardDeck.getCommunityChestCards();
+        return deck.get(index);
+    }
+    
+    private String readString() throws IOException {
+        int length = readVarint();
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            if (!fill(1)) {
+                throw new EOFException("Truncated event log");
+            }
+            int chunk = Math.min(length - read, buffer.remaining());
+            buffer.get(bytes, read, chunk);
+            read += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt event log: varint too long");
+    }
+    
+    private int readSignedVarint() throws IOException {
+        return decodeZigzag(readVarint());
+    }
+    
+    private int readByte() throws IOException {
+        if (!fill(1)) {
+            throw new EOFException("Truncated event log");
+        }
+        return buffer.get() & 0xFF;
+    }
+    
+    /**
+     * Make sure at least bytes bytes are buffered; returns false at the end of the file
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
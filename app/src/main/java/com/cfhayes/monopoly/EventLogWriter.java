@@ -0,0 +1,293 @@
+package com.cfhayes.monopoly;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.cfhayes.monopoly.EventLogFormat.*;
+
+/**
+ * Appends game events to a file in a compact binary form (a few bytes per event).
+ *
+ * Events are encoded into one of two buffers; when a buffer fills it is handed to a
+ * background thread that appends it to the file while the game keeps encoding into
+ * the other one, so the game only waits if the disk falls a whole buffer behind.
+ * A writer is not thread-safe: use one per game thread.
+ */
+public class EventLogWriter implements GameEventSink, Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    
+    private final FileChannel channel;
+    private final ExecutorService writerThread;
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private Future<?> pendingWrite;
+    private final Map<Player, Integer> playerIds = new IdentityHashMap<>();
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private boolean closed;
+    
+    /**
+     * Create a log at path, appending to it if it already exists
+     */
+    public EventLogWriter(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+    
+    public EventLogWriter(Path path, int bufferSize) throws IOException {
+        if (bufferSize < 1024) {
+            throw new IllegalArgumentException("Buffer size must be at least 1024 bytes");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.APPEND);
+        this.writerThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.active = ByteBuffer.allocateDirect(bufferSize);
+        this.spare = ByteBuffer.allocateDirect(bufferSize);
+        if (channel.size() == 0) {
+            active.putInt(MAGIC);
+            active.put(VERSION);
+        }
+    }
+    
+    @Override
+    public void accept(GameEvent event) {
+        if (closed) {
+            throw new IllegalStateException("Event log is closed");
+        }
+        if (event instanceof GameEvent.GameStarted e) {
+            playerIds.clear();
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(GAME_STARTED);
+            writeVarint(active, e.playerCount());
+        } else if (event instanceof GameEvent.TurnStarted e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(TURN_STARTED);
+            writeVarint(active, player);
+            writeVarint(active, e.turn());
+            writeVarint(active, e.position());
+            writeSignedVarint(active, e.money());
+        } else if (event instanceof GameEvent.DiceRolled e) {
+            writePlayerRecord(DICE_ROLLED, e.player(), e.roll());
+        } else if (event instanceof GameEvent.Moved e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(MOVED);
+            writeVarint(active, player);
+            writeVarint(active, e.from());
+            writeVarint(active, e.to());
+        } else if (event instanceof GameEvent.PassedGo e) {
+            writePlayerRecord(PASSED_GO, e.player(), e.amount());
+        } else if (event instanceof GameEvent.Landed e) {
+            writePlayerRecord(LANDED, e.player(), e.space().getPosition());
+        } else if (event instanceof GameEvent.Purchased e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(PURCHASED);
+            writeVarint(active, player);
+            writeVarint(active, e.property().getPosition());
+            writeVarint(active, e.price());
+        } else if (event instanceof GameEvent.PurchaseDeclined e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(PURCHASE_DECLINED);
+            writeVarint(active, player);
+            writeVarint(active, e.property().getPosition());
+            active.put((byte) (e.couldAfford() ? 1 : 0));
+        } else if (event instanceof GameEvent.RentPaid e) {
+            int payer = playerId(e.payer());
+            int owner = playerId(e.owner());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(RENT_PAID);
+            writeVarint(active, payer);
+            writeVarint(active, owner);
+            writeVarint(active, e.property().getPosition());
+            writeVarint(active, e.amount());
+        } else if (event instanceof GameEvent.CardDrawn e) {
+            writeCard(e);
+        } else if (event instanceof GameEvent.CashChanged e) {
+            int player = playerId(e.player());
+            int reason = stringId(e.reason());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(CASH_CHANGED);
+            writeVarint(active, player);
+            writeSignedVarint(active, e.amount());
+            writeVarint(active, reason);
+            writeSignedVarint(active, e.balance());
+        } else if (event instanceof GameEvent.Jailed e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(JAILED);
+            writeVarint(active, player);
+        } else if (event instanceof GameEvent.LeftJail e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(LEFT_JAIL);
+            writeVarint(active, player);
+        } else if (event instanceof GameEvent.Bankrupt e) {
+            int player = playerId(e.player());
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(BANKRUPT);
+            writeVarint(active, player);
+        } else if (event instanceof GameEvent.GameEnded e) {
+            int winner = e.winner() == null ? 0 : playerId(e.winner()) + 1;
+            ensureRemaining(MAX_RECORD_SIZE);
+            active.put(GAME_ENDED);
+            writeVarint(active, winner);
+        }
+    }
+    
+    private void writePlayerRecord(byte tag, Player player, int value) {
+        int id = playerId(player);
+        ensureRemaining(MAX_RECORD_SIZE);
+        active.put(tag);
+        writeVarint(active, id);
+        writeVarint(active, value);
+    }
+    
+    /**
+     * Cards from the standard decks are written as their index in the deck;
+     * other cards are written by description
+     */
+    private void writeCard(GameEvent.CardDrawn event) {
+        Card card = event.card();
+        List<Card> deck = card.getType() == Card.CardType.CHANCE ? CardDeck.getChanceCards()
+                                                                 : CardDeck.getCommunityChestCards();
+        int index = deck.indexOf(card);
+        int player = playerId(event.player());
+        int description = index < 0 ? stringId(card.getDescription()) : 0;
+        ensureRemaining(MAX_RECORD_SIZE);
+        active.put(CARD_DRAWN);
+        writeVarint(active, player);
+        active.put((byte) card.getType().ordinal());
+        writeVarint(active, index + 1);
+        if (index < 0) {
+            writeVarint(active, description);
+        }
+    }
+    
+    /**
+     * Get a player's id in the current game, defining it on first use
+     */
+    private int playerId(Player player) {
+        Integer id = playerIds.get(player);
+        if (id == null) {
+            id = playerIds.size();
+            playerIds.put(player, id);
+            writeDefinition(DEFINE_PLAYER, id, player.getName());
+        }
+        return id;
+    }
+    
+    private int stringId(String value) {
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = stringIds.size();
+            stringIds.put(value, id);
+            writeDefinition(DEFINE_STRING, id, value);
+        }
+        return id;
+    }
+    
+    private void writeDefinition(byte tag, int id, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(bytes.length + 16);
+        active.put(tag);
+        writeVarint(active, id);
+        writeVarint(active, bytes.length);
+        active.put(bytes);
+    }
+    
+    /**
+     * Make room in the active buffer, handing it to the writer thread if it is too full
+     */
+    private void ensureRemaining(int bytes) {
+        if (active.remaining() >= bytes) {
+            return;
+        }
+        if (bytes > active.capacity()) {
+            throw new IllegalArgumentException("Event of " + bytes + " bytes does not fit the log buffer");
+        }
+        swapBuffers();
+    }
+    
+    private void swapBuffers() {
+        awaitPendingWrite();
+        ByteBuffer full = active;
+        full.flip();
+        pendingWrite = writerThread.submit(() -> {
+            while (full.hasRemaining()) {
+                channel.write(full);
+            }
+            full.clear();
+            return null;
+        });
+        active = spare;
+        spare = full;
+    }
+    
+    private void awaitPendingWrite() {
+        if (pendingWrite == null) {
+            return;
+        }
+        try {
+            pendingWrite.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing event log", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new IllegalStateException("Failed to write event log", cause);
+        } finally {
+            pendingWrite = null;
+        }
+    }
+    
+    /**
+     * Write everything buffered so far to the file and wait for it to complete
+     */
+    public void flush() throws IOException {
+        if (active.position() > 0) {
+            swapBuffers();
+        }
+        try {
+            awaitPendingWrite();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        channel.force(false);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            writerThread.shutdown();
+            channel.close();
+        }
+    }
+}
\ No newline at end of file
@@ -1,39 +1,100 @@
 package com.cfhayes.monopoly;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
 
 /**
  * Main game controller that manages the game state, players, and game flow.
+ * Player choices come from a DecisionMaker and everything that happens is reported
+ * as GameEvents to a GameEventSink, so the same rules run interactively or headless.
  */
 public class Game {
     private List<Player> players;
+    private List<DecisionMaker> decisionMakers;
     private Board board;
     private Dice dice;
     private CardDeck cardDeck;
+    private DecisionMaker defaultDecisionMaker;
+    private GameEventSink events;
+    private GameMetrics metrics;
+    private Set<Player> bankruptPlayers;
     private int currentPlayerIndex;
+    private int turnCount;
+    private TurnRules.RollOutcome rollOutcome;
     private boolean gameRunning;
-    private Scanner scanner;
     
+    /**
+     * Create an interactive game that reads decisions from the console
+     */
     public Game() {
+        this(new Dice(), new CardDeck(), new ConsoleDecisionMaker(), GameEventSink.CONSOLE);
+    }
+    
+    /**
+     * Create a game whose events are rendered as text to the given output (GameOutput.SILENT renders nothing)
+     */
+    public Game(Dice dice, CardDeck cardDeck, DecisionMaker defaultDecisionMaker, GameOutput output) {
+        this(dice, cardDeck, defaultDecisionMaker,
+             output.isEnabled() ? new ConsoleEventRenderer(output) : GameEventSink.NO_OP);
+    }
+    
+    /**
+     * Create a game with the given components (use GameEventSink.NO_OP for headless games)
+     */
+    public Game(Dice dice, CardDeck cardDeck, DecisionMaker defaultDecisionMaker, GameEventSink events) {
+        this(dice, cardDeck, defaultDecisionMaker, events, new Board());
+    }
+    
+    /**
+     * Create a game played on the given board, such as one loaded with BoardDefinitions.
+     * Every card that advances to a square must target a square of the board.
+     */
+    public Game(Dice dice, CardDeck cardDeck, DecisionMaker defaultDecisionMaker, GameEventSink events, Board board) {
+        cardDeck.checkTargets(board.getSize());
         this.players = new ArrayList<>();
-        this.board = new Board();
-        this.dice = new Dice();
-        this.cardDeck = new CardDeck();
+        this.decisionMakers = new ArrayList<>();
+        this.board = board;
+        this.dice = dice;
+        this.cardDeck = cardDeck;
+        this.defaultDecisionMaker = defaultDecisionMaker;
+        this.events = events;
+        this.metrics = GameMetrics.DISABLED;
+        this.bankruptPlayers = new HashSet<>();
         this.currentPlayerIndex = 0;
+        this.turnCount = 0;
         this.gameRunning = false;
-        this.scanner = new Scanner(System.in);
     }
     
     /**
      * Add a player to the game
      */
     public void addPlayer(String name) {
+        addPlayer(name, defaultDecisionMaker);
+    }
+    
+    /**
+     * Add a player whose choices are made by the given decision maker
+     */
+    public void addPlayer(String name, DecisionMaker decisionMaker) {
         if (players.size() >= 8) {
             throw new IllegalStateException("Maximum 8 players allowed");
         }
+        for (Player player : players) {
+            if (player.getName().equals(name)) {
+                throw new IllegalArgumentException("Duplicate player name: " + name);
+            }
+        }
         players.add(new Player(name, 1500)); // Starting money: $1500
+        decisionMakers.add(decisionMaker);
+    }
+    
+    /**
+     * Record turn counts and latencies into the given metrics (GameMetrics.DISABLED by default)
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
     }
     
     /**
@@ -52,7 +113,9 @@ public class Game {
         }
         
         gameRunning = true;
-        System.out.println("Game started!");
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.GameStarted(players.size()));
+        }
         
         // Game loop
         while (gameRunning && !isGameOver()) {
@@ -64,58 +127,275 @@ public class Game {
     }
     
     /**
-     * Play one turn for the current player
+     * Play turns until the game is over or maxTurns turns have been played.
+     * Never blocks unless a decision maker does; returns the number of turns played.
+     */
+    public int play(int maxTurns) {
+        if (players.size() < 2) {
+            throw new IllegalStateException("At least 2 players required to start the game");
+        }
+        
+        gameRunning = true;
+        if (turnCount == 0 && events.isEnabled()) {
+            events.accept(new GameEvent.GameStarted(players.size()));
+        }
+        int turnsPlayed = 0;
+        while (gameRunning && !isGameOver() && turnsPlayed < maxTurns) {
+            playTurn();
+            nextPlayer();
+            turnsPlayed++;
+        }
+        
+        if (isGameOver()) {
+            endGame();
+        }
+        return turnsPlayed;
+    }
+    
+    /**
+     * Play one turn for the current player: doubles roll again (three in a row go to jail),
+     * and a jailed player tries to roll doubles unless they leave early
      */
     private void playTurn() {
+        long startTime = metrics.isEnabled() ? System.nanoTime() : 0;
+        GameFlightEvents.Turn flightEvent = new GameFlightEvents.Turn();
+        flightEvent.begin();
         Player currentPlayer = getCurrentPlayer();
-        System.out.println("\n" + currentPlayer.getName() + "'s turn");
-        System.out.println("Current position: " + currentPlayer.getPosition());
-        System.out.println("Current money: $" + currentPlayer.getMoney());
-        
-        System.out.println("Press Enter to roll dice...");
-        scanner.nextLine();
+        int startPosition = currentPlayer.getPosition();
+        int startCash = currentPlayer.getMoney();
+        turnCount++;
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.TurnStarted(currentPlayer, turnCount, currentPlayer.getPosition(),
+                                                    currentPlayer.getMoney()));
+        }
         
-        // Roll dice and move player
-        int roll = dice.roll();
-        System.out.println("Rolled: " + roll);
+        DecisionMaker decisionMaker = decisionMakers.get(currentPlayerIndex);
+        dice.resetDoublesCount();
+        if (currentPlayer.isInJail() && shouldLeaveJail(decisionMaker, currentPlayer)) {
+            leaveJailEarly(currentPlayer);
+        }
         
-        int newPosition = (currentPlayer.getPosition() + roll) % 40;
-        currentPlayer.setPosition(newPosition);
+        int rolls = 0;
+        boolean rollAgain = true;
+        while (rollAgain) {
+            rollAgain = false;
+            awaitRoll(decisionMaker, currentPlayer);
+            int roll = dice.roll();
+            rolls++;
+            if (metrics.isEnabled()) {
+                metrics.recordRoll();
+            }
+            if (events.isEnabled()) {
+                events.accept(new GameEvent.DiceRolled(currentPlayer, roll));
+            }
+            
+            rollOutcome = TurnRules.afterRoll(currentPlayer.isInJail(), currentPlayer.getJailTurns(),
+                                              dice.isDoubles(), dice.getDoublesCount());
+            switch (rollOutcome) {
+                case SPEEDING:
+                    sendToJail(currentPlayer);
+                    break;
+                case STAY_IN_JAIL:
+                    currentPlayer.incrementJailTurns();
+                    break;
+                case PAY_AND_LEAVE_JAIL:
+                    payJailFine(currentPlayer);
+                    leaveJail(currentPlayer);
+                    move(currentPlayer, roll);
+                    break;
+                case LEAVE_JAIL:
+                    leaveJail(currentPlayer);
+                    move(currentPlayer, roll);
+                    break;
+                case MOVE:
+                    move(currentPlayer, roll);
+                    break;
+                case MOVE_AND_ROLL_AGAIN:
+                    move(currentPlayer, roll);
+                    rollAgain = TurnRules.mayRollAgain(currentPlayer.isInJail(), currentPlayer.getMoney());
+                    break;
+            }
+        }
+        reportBankruptcies();
+        if (metrics.isEnabled()) {
+            metrics.recordTurn(System.nanoTime() - startTime);
+        }
+        flightEvent.end();
+        if (flightEvent.shouldCommit()) {
+            flightEvent.turn = turnCount;
+            flightEvent.player = currentPlayer.getName();
+            flightEvent.rolls = rolls;
+            flightEvent.startPosition = startPosition;
+            flightEvent.endPosition = currentPlayer.getPosition();
+            flightEvent.startCash = startCash;
+            flightEvent.endCash = currentPlayer.getMoney();
+            flightEvent.commit();
+        }
+    }
+    
+    private void awaitRoll(DecisionMaker decisionMaker, Player player) {
+        GameFlightEvents.Decision flightEvent = new GameFlightEvents.Decision();
+        flightEvent.begin();
+        decisionMaker.awaitRoll(player, this);
+        commitDecision(flightEvent, "roll", player, null, true);
+    }
+    
+    private boolean shouldLeaveJail(DecisionMaker decisionMaker, Player player) {
+        GameFlightEvents.Decision flightEvent = new GameFlightEvents.Decision();
+        long startTime = metrics.isEnabled() ? System.nanoTime() : 0;
+        flightEvent.begin();
+        boolean leave = decisionMaker.shouldLeaveJail(player, this);
+        if (metrics.isEnabled()) {
+            metrics.recordDecision(System.nanoTime() - startTime);
+        }
+        commitDecision(flightEvent, "leave jail", player, null, leave);
+        return leave;
+    }
+    
+    private boolean shouldBuyProperty(Player player, Property property) {
+        DecisionMaker decisionMaker = decisionMakerFor(player);
+        GameFlightEvents.Decision flightEvent = new GameFlightEvents.Decision();
+        long startTime = metrics.isEnabled() ? System.nanoTime() : 0;
+        flightEvent.begin();
+        boolean buy = decisionMaker.shouldBuyProperty(player, property, this);
+        if (metrics.isEnabled()) {
+            metrics.recordDecision(System.nanoTime() - startTime);
+        }
+        commitDecision(flightEvent, "buy", player, property, buy);
+        return buy;
+    }
+    
+    private void commitDecision(GameFlightEvents.Decision flightEvent, String decision, Player player,
+                                BoardSpace square, boolean answer) {
+        flightEvent.end();
+        if (flightEvent.shouldCommit()) {
+            flightEvent.decision = decision;
+            flightEvent.player = player.getName();
+            flightEvent.square = square == null ? board.getSpace(player.getPosition()).getName() : square.getName();
+            flightEvent.answer = answer;
+            flightEvent.commit();
+        }
+    }
+    
+    /**
+     * Move a player forward by a roll, collecting the GO salary for passing GO, and handle the landing
+     */
+    private void move(Player player, int roll) {
+        int oldPosition = player.getPosition();
+        int newPosition = (oldPosition + roll) % board.getSize();
+        player.setPosition(newPosition);
         
         // Check if player passed GO
-        if (newPosition < currentPlayer.getPosition()) {
-            currentPlayer.addMoney(200);
-            System.out.println("Passed GO! Collected $200");
+        if (newPosition < oldPosition) {
+            collectGoSalary(player);
         }
         
-        System.out.println("Moved to position: " + newPosition);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Moved(player, oldPosition, newPosition));
+        }
         
         // Handle landing on space
         BoardSpace space = board.getSpace(newPosition);
-        handleSpaceLanding(currentPlayer, space);
+        handleSpaceLanding(player, space);
+    }
+    
+    /**
+     * Pay a player the board's salary for passing GO
+     */
+    private void collectGoSalary(Player player) {
+        int salary = board.getLayout().getGoSalary();
+        player.addMoney(salary);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.PassedGo(player, salary));
+        }
+    }
+    
+    /**
+     * Send a player to jail (for landing on Go to Jail, a card or rolling three doubles in a row)
+     */
+    private void sendToJail(Player player) {
+        player.setPosition(board.getJailPosition());
+        player.setInJail(true);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Jailed(player));
+        }
+    }
+    
+    /**
+     * Get a player out of jail before rolling: with a card if they hold one, else by paying the fine
+     */
+    private void leaveJailEarly(Player player) {
+        if (player.getJailFreeCards() > 0) {
+            player.setJailFreeCards(player.getJailFreeCards() - 1);
+            leaveJail(player);
+        } else if (player.getMoney() >= TurnRules.JAIL_FINE) {
+            payJailFine(player);
+            leaveJail(player);
+        }
+    }
+    
+    private void payJailFine(Player player) {
+        player.subtractMoney(TurnRules.JAIL_FINE);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.CashChanged(player, -TurnRules.JAIL_FINE, "Jail fine", player.getMoney()));
+        }
+    }
+    
+    private void leaveJail(Player player) {
+        player.setInJail(false);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.LeftJail(player));
+        }
+    }
+    
+    /**
+     * Report players who ran out of money this turn (once each)
+     */
+    private void reportBankruptcies() {
+        if (!events.isEnabled() && !GameFlightEvents.BANKRUPTCY.isEnabled()) {
+            return;
+        }
+        for (Player player : players) {
+            if (player.getMoney() <= 0 && bankruptPlayers.add(player)) {
+                if (events.isEnabled()) {
+                    events.accept(new GameEvent.Bankrupt(player));
+                }
+                GameFlightEvents.Bankruptcy flightEvent = new GameFlightEvents.Bankruptcy();
+                if (flightEvent.shouldCommit()) {
+                    flightEvent.player = player.getName();
+                    flightEvent.turn = turnCount;
+                    flightEvent.commit();
+                }
+            }
+        }
     }
     
     /**
      * Handle what happens when a player lands on a space
      */
     private void handleSpaceLanding(Player player, BoardSpace space) {
-        System.out.println("Landed on: " + space.getName());
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Landed(player, space));
+        }
         
-        if (space instanceof Property) {
-            Property property = (Property) space;
-            handlePropertyLanding(player, property);
-        } else if (space instanceof SpecialSpace) {
-            SpecialSpace specialSpace = (SpecialSpace) space;
-            
-            // Handle card spaces specially
-            if (space.getName().toLowerCase().contains("chance")) {
+        switch (space.getKind()) {
+            case PROPERTY:
+            case RAILROAD:
+            case UTILITY:
+                handlePropertyLanding(player, (Property) space);
+                break;
+            case CHANCE:
                 handleCardSpace(player, Card.CardType.CHANCE);
-            } else if (space.getName().toLowerCase().contains("community chest")) {
+                break;
+            case COMMUNITY_CHEST:
                 handleCardSpace(player, Card.CardType.COMMUNITY_CHEST);
-            } else {
-                // Handle other special spaces normally
-                specialSpace.handleLanding(player);
-            }
+                break;
+            case GO_TO_JAIL:
+                sendToJail(player);
+                break;
+            default:
+                space.handleLanding(player, events);
+                break;
         }
     }
     
@@ -125,31 +405,67 @@ public class Game {
     private void handlePropertyLanding(Player player, Property property) {
         if (property.getOwner() == null) {
             // Property is unowned, offer to buy
-            System.out.println("This property costs $" + property.getPrice() + ". Buy it? (y/n)");
-            String response = scanner.nextLine().toLowerCase();
-            
-            if (response.equals("y")) {
+            if (shouldBuyProperty(player, property)) {
                 if (player.getMoney() >= property.getPrice()) {
                     player.subtractMoney(property.getPrice());
                     property.setOwner(player);
                     player.addProperty(property);
-                    System.out.println("You bought " + property.getName() + "!");
-                } else {
-                    System.out.println("You don't have enough money to buy " + property.getName() + 
-                                     "! You have $" + player.getMoney() + " but it costs $" + property.getPrice() + ".");
+                    if (metrics.isEnabled()) {
+                        metrics.recordPurchase();
+                    }
+                    if (events.isEnabled()) {
+                        events.accept(new GameEvent.Purchased(player, property, property.getPrice()));
+                    }
+                } else if (events.isEnabled()) {
+                    events.accept(new GameEvent.PurchaseDeclined(player, property, false));
                 }
-            } else if (response.equals("n")) {
-                System.out.println("You declined to buy " + property.getName() + ".");
+            } else if (events.isEnabled()) {
+                events.accept(new GameEvent.PurchaseDeclined(player, property, true));
             }
         } else if (!property.getOwner().equals(player)) {
             // Property is owned by someone else, pay rent
-            int rent = property.getRent();
-            player.subtractMoney(rent);
-            property.getOwner().addMoney(rent);
-            System.out.println("Paid $" + rent + " rent to " + property.getOwner().getName());
+            payRent(player, property);
         }
     }
     
+    /**
+     * Pay the rent for an owned property to its owner
+     */
+    private void payRent(Player player, Property property) {
+        int rent = property.getRent();
+        player.subtractMoney(rent);
+        property.getOwner().addMoney(rent);
+        if (metrics.isEnabled()) {
+            metrics.recordRent(rent);
+        }
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.RentPaid(player, property.getOwner(), property, rent));
+        }
+        GameFlightEvents.RentPayment flightEvent = new GameFlightEvents.RentPayment();
+        if (flightEvent.shouldCommit()) {
+            flightEvent.payer = player.getName();
+            flightEvent.owner = property.getOwner().getName();
+            flightEvent.property = property.getName();
+            flightEvent.amount = rent;
+            flightEvent.commit();
+        }
+    }
+    
+    /**
+     * Find the decision maker for a player by seat (falls back to the game default)
+     */
+    private DecisionMaker decisionMakerFor(Player player) {
+        if (players.get(currentPlayerIndex) == player) {
+            return decisionMakers.get(currentPlayerIndex);
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return decisionMakers.get(i);
+            }
+        }
+        return defaultDecisionMaker;
+    }
+    
     /**
      * Move to the next player
      */
@@ -167,31 +483,61 @@ public class Game {
     /**
      * Check if the game is over
      */
-    private boolean isGameOver() {
-        long playersWithMoney = players.stream()
-            .filter(p -> p.getMoney() > 0)
-            .count();
+    public boolean isGameOver() {
+        int playersWithMoney = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getMoney() > 0) {
+                playersWithMoney++;
+            }
+        }
         return playersWithMoney <= 1;
     }
     
+    /**
+     * Get the winner, or null if the game is not over or nobody has money left
+     */
+    public Player getWinner() {
+        if (!isGameOver()) {
+            return null;
+        }
+        for (Player player : players) {
+            if (player.getMoney() > 0) {
+                return player;
+            }
+        }
+        return null;
+    }
+    
     /**
      * End the game and determine winner
      */
     private void endGame() {
         gameRunning = false;
         
-        Player winner = players.stream()
-            .filter(p -> p.getMoney() > 0)
-            .findFirst()
-            .orElse(null);
-            
-        if (winner != null) {
-            System.out.println("\nGame Over! " + winner.getName() + " wins!");
-        } else {
-            System.out.println("\nGame Over! No winner.");
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.GameEnded(getWinner()));
         }
         
-        scanner.close();
+        if (defaultDecisionMaker instanceof ConsoleDecisionMaker) {
+            ((ConsoleDecisionMaker) defaultDecisionMaker).close();
+        }
+    }
+    
+    /**
+     * Set whose turn it is and how many turns have been played (used when restoring a checkpoint)
+     */
+    void restoreTurn(int currentPlayerIndex, int turnCount) {
+        if (currentPlayerIndex < 0 || currentPlayerIndex >= players.size()) {
+            throw new IllegalArgumentException("No player at seat " + currentPlayerIndex);
+        }
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.turnCount = turnCount;
+        bankruptPlayers.clear();
+        for (Player player : players) {
+            if (player.getMoney() <= 0) {
+                bankruptPlayers.add(player);
+            }
+        }
     }
     
     /**
@@ -205,48 +551,194 @@ public class Game {
      * Handle card spaces (Chance and Community Chest)
      */
     private void handleCardSpace(Player player, Card.CardType cardType) {
+        GameFlightEvents.CardExecution flightEvent = new GameFlightEvents.CardExecution();
+        flightEvent.begin();
         Card card;
         if (cardType == Card.CardType.CHANCE) {
             card = cardDeck.drawChanceCard();
         } else {
             card = cardDeck.drawCommunityChestCard();
         }
+        if (metrics.isEnabled()) {
+            metrics.recordCardDraw();
+        }
+        
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.CardDrawn(player, card));
+        }
+        applyCard(player, card);
         
-        System.out.println("You drew: " + card.getDescription());
-        card.execute(player, this);
+        flightEvent.end();
+        if (flightEvent.shouldCommit()) {
+            flightEvent.player = player.getName();
+            flightEvent.deck = cardType.name();
+            flightEvent.card = card.getDescription();
+            flightEvent.effect = card.getEffect().name();
+            flightEvent.commit();
+        }
     }
     
     /**
-     * Handle property landing from a card (avoids recursive card drawing)
+     * Apply a card's effect to a player: the interpreter for CardEffect opcodes
      */
-    public void handlePropertyLandingFromCard(Player player, Property property) {
-        if (property.getOwner() == null) {
-            // Property is unowned, offer to buy
-            System.out.println("This property costs $" + property.getPrice() + ". Buy it? (y/n)");
-            String response = scanner.nextLine().toLowerCase();
-            
-            if (response.equals("y")) {
-                if (player.getMoney() >= property.getPrice()) {
-                    player.subtractMoney(property.getPrice());
-                    property.setOwner(player);
-                    player.addProperty(property);
-                    System.out.println("You bought " + property.getName() + "!");
+    void applyCard(Player player, Card card) {
+        int startingMoney = player.getMoney();
+        switch (card.getEffect()) {
+            case MONEY:
+                int amount = card.getOperand1();
+                if (amount > 0) {
+                    player.addMoney(amount);
                 } else {
-                    System.out.println("You don't have enough money to buy " + property.getName() + 
-                                     "! You have $" + player.getMoney() + " but it costs $" + property.getPrice() + ".");
+                    player.subtractMoney(-amount);
                 }
-            } else if (response.equals("n")) {
-                System.out.println("You declined to buy " + property.getName() + ".");
-            }
-        } else if (!property.getOwner().equals(player)) {
-            // Property is owned by someone else, pay rent
-            int rent = property.getRent();
-            player.subtractMoney(rent);
-            property.getOwner().addMoney(rent);
-            System.out.println("Paid $" + rent + " rent to " + property.getOwner().getName());
+                break;
+            
+            case ADVANCE:
+                advance(player, card.getOperand1(), card.getOperand2() != 0);
+                return;
+            
+            case ADVANCE_TO_GO:
+                int goFrom = player.getPosition();
+                player.setPosition(0);
+                if (events.isEnabled()) {
+                    events.accept(new GameEvent.Moved(player, goFrom, 0));
+                }
+                collectGoSalary(player);
+                return;
+            
+            case GO_TO_JAIL:
+                sendToJail(player);
+                break;
+            
+            case GET_OUT_OF_JAIL_FREE:
+                // Kept until used; the card itself stays in the deck's rotation
+                player.setJailFreeCards(player.getJailFreeCards() + 1);
+                break;
+            
+            case GO_BACK:
+                goBack(player, card.getOperand1());
+                return;
+            
+            case REPAIRS:
+                player.subtractMoney(card.getOperand1());
+                break;
+            
+            case PAY_EACH_PLAYER:
+                for (Player otherPlayer : players) {
+                    if (otherPlayer != player) {
+                        int actualPay = Math.min(card.getOperand1(), player.getMoney());
+                        player.subtractMoney(actualPay);
+                        otherPlayer.addMoney(actualPay);
+                    }
+                }
+                break;
+            
+            case COLLECT_FROM_EACH_PLAYER:
+                for (Player otherPlayer : players) {
+                    if (otherPlayer != player) {
+                        int actualCollect = Math.min(card.getOperand1(), otherPlayer.getMoney());
+                        otherPlayer.subtractMoney(actualCollect);
+                        player.addMoney(actualCollect);
+                    }
+                }
+                break;
+        }
+        
+        int change = player.getMoney() - startingMoney;
+        if ((change != 0 || card.getEffect() == CardEffect.MONEY) && events.isEnabled()) {
+            events.accept(new GameEvent.CashChanged(player, change, card.getDescription(), player.getMoney()));
+        }
+    }
+    
+    /**
+     * Move a player straight to a square for a card: rent is paid but nothing is offered
+     * for sale and no further cards are drawn
+     */
+    private void advance(Player player, int target, boolean collectGoMoney) {
+        int oldPosition = player.getPosition();
+        
+        // Check if player passes GO when moving
+        if (collectGoMoney && (target < oldPosition || target == 0)) {
+            collectGoSalary(player);
+        }
+        
+        player.setPosition(target);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Moved(player, oldPosition, target));
+        }
+        
+        BoardSpace space = board.getSpace(target);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Landed(player, space));
+        }
+        switch (space.getKind()) {
+            case PROPERTY:
+            case RAILROAD:
+            case UTILITY:
+                payRentFromCard(player, (Property) space);
+                break;
+            case CHANCE:
+            case COMMUNITY_CHEST:
+                // No further cards are drawn, to avoid infinite recursion
+                break;
+            case GO_TO_JAIL:
+                sendToJail(player);
+                break;
+            default:
+                space.handleLanding(player, events);
+                break;
+        }
+    }
+    
+    /**
+     * Move a player back for a card; only rent is due where they land
+     */
+    private void goBack(Player player, int spaces) {
+        int oldPosition = player.getPosition();
+        int newPosition = Math.floorMod(oldPosition - spaces, board.getSize());
+        player.setPosition(newPosition);
+        
+        BoardSpace space = board.getSpace(newPosition);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.Moved(player, oldPosition, newPosition));
+            events.accept(new GameEvent.Landed(player, space));
+        }
+        if (space instanceof Property) {
+            payRentFromCard(player, (Property) space);
         }
     }
     
+    /**
+     * Pay rent on a property reached by a card (card moves never offer a purchase)
+     */
+    private void payRentFromCard(Player player, Property property) {
+        if (property.getOwner() != null && property.getOwner() != player) {
+            payRent(player, property);
+        }
+    }
+    
+    /**
+     * Handle property landing from a card: rent is paid to an owner, but no purchase is offered
+     */
+    public void handlePropertyLandingFromCard(Player player, Property property) {
+        payRentFromCard(player, property);
+    }
+    
+    /**
+     * Whether the roll being resolved was doubles that let the current player roll again
+     * once it is resolved (as long as they still have money)
+     */
+    boolean isRollingAgain() {
+        return rollOutcome == TurnRules.RollOutcome.MOVE_AND_ROLL_AGAIN;
+    }
+    
+    /**
+     * Get the number of turns played so far
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+    
     /**
      * Get the game board (for testing)
      */
@@ -260,4 +752,18 @@ public class Game {
     public CardDeck getCardDeck() {
         return cardDeck;
     }
+    
+    /**
+     * Get the dice used by this game
+     */
+    public Dice getDice() {
+        return dice;
+    }
+    
+    /**
+     * Get the sink this game's events are reported to
+     */
+    public GameEventSink getEventSink() {
+        return events;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,338 @@
+package com.cfhayes.monopoly;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Small HTTP API for driving the games of a GameServer remotely, built on the JDK's HttpServer.
+ *
+ * <pre>
+ * GET    /games                                 list games
+ * POST   /games?players=Alice,Bob[&amp;seed=42]     create and start a game
+ * GET    /games/{id}                            status, players and what each seat is waiting for
+ * DELETE /games/{id}                            stop and remove a game
+ * POST   /games/{id}/seats/{seat}/{command}     roll, buy, decline or leave-jail
+ * GET    /games/{id}/events                     stream events as server-sent events
+ * </pre>
+ *
+ * Every request, including each open event stream, is handled on its own virtual thread,
+ * so thousands of connected clients cost parked virtual threads rather than platform threads.
+ */
+public class GameApiServer implements AutoCloseable {
+    /**
+     * Events buffered per event stream before a slow client is disconnected
+     */
+    private static final int STREAM_BUFFER = 1024;
+    
+    /**
+     * Seconds between keep-alive comments on an idle event stream
+     */
+    private static final int HEARTBEAT_SECONDS = 15;
+    
+    private final GameServer games;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    /**
+     * Create an API for the given games, listening on the given address (port 0 picks a free port)
+     */
+    public GameApiServer(GameServer games, InetSocketAddress address) throws IOException {
+        this.games = games;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 1).factory());
+        server.setExecutor(executor);
+        server.createContext("/games", this::handle);
+    }
+    
+    public void start() {
+        server.start();
+    }
+    
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (RuntimeException e) {
+            // Once a response has started (an event stream) there is no way to report the error
+            if (exchange.getResponseCode() == -1) {
+                int status = e instanceof IllegalArgumentException ? 400 : 500;
+                sendJson(exchange, status, "{\"error\":" + quote(String.valueOf(e.getMessage())) + "}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = Arrays.stream(exchange.getRequestURI().getPath().split("/"))
+                              .filter(part -> !part.isEmpty())
+                              .toArray(String[]::new);
+        
+        if (path.length == 1) {
+            if (method.equals("GET")) {
+                listGames(exchange);
+            } else if (method.equals("POST")) {
+                createGame(exchange);
+            } else {
+                sendJson(exchange, 405, "{\"error\":\"Method not allowed\"}");
+            }
+            return;
+        }
+        
+        GameSession session = games.getGame(parseNumber(path[1]));
+        if (session == null) {
+            sendJson(exchange, 404, "{\"error\":\"No such game\"}");
+        } else if (path.length == 2 && method.equals("GET")) {
+            sendJson(exchange, 200, sessionJson(session));
+        } else if (path.length == 2 && method.equals("DELETE")) {
+            games.removeGame(session.getId());
+            sendJson(exchange, 200, sessionJson(session));
+        } else if (path.length == 3 && path[2].equals("events") && method.equals("GET")) {
+            streamEvents(exchange, session);
+        } else if (path.length == 5 && path[2].equals("seats") && method.equals("POST")) {
+            long seat = parseNumber(path[3]);
+            if (seat < 0 || seat >= session.getPlayerNames().size()) {
+                throw new IllegalArgumentException("No seat " + seat);
+            }
+            session.submit((int) seat, parseCommand(path[4]));
+            sendJson(exchange, 202, "{\"accepted\":true}");
+        } else {
+            sendJson(exchange, 404, "{\"error\":\"Not found\"}");
+        }
+    }
+    
+    private void listGames(HttpExchange exchange) throws IOException {
+        List<String> entries = new ArrayList<>();
+        for (GameSession session : games.getGames()) {
+            entries.add(sessionJson(session));
+        }
+        sendJson(exchange, 200, "[" + String.join(",", entries) + "]");
+    }
+    
+    private void createGame(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String players = query.get("players");
+        if (players == null || players.isBlank()) {
+            throw new IllegalArgumentException("players is required, e.g. ?players=Alice,Bob");
+        }
+        List<String> names = Arrays.asList(players.split(","));
+        GameSession session = query.containsKey("seed") ? games.createGame(names, parseNumber(query.get("seed")))
+                                                        : games.createGame(names);
+        sendJson(exchange, 201, sessionJson(session));
+    }
+    
+    /**
+     * Send the game's events as server-sent events until the game ends or the client goes away.
+     * A client that falls STREAM_BUFFER events behind is disconnected rather than sent a stream with gaps.
+     */
+    private void streamEvents(HttpExchange exchange, GameSession session) throws IOException {
+        BlockingQueue<GameEvent> queue = new ArrayBlockingQueue<>(STREAM_BUFFER);
+        AtomicBoolean overflowed = new AtomicBoolean();
+        GameEventSink subscriber = event -> {
+            if (!queue.offer(event)) {
+                overflowed.set(true);
+            }
+        };
+        session.subscribe(subscriber);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            int idleSeconds = 0;
+            while (true) {
+                if (overflowed.get()) {
+                    // The client fell a whole buffer behind; end the stream rather than leave gaps
+                    body.write(": too slow, disconnected\n\n".getBytes(StandardCharsets.UTF_8));
+                    break;
+                }
+                GameEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    idleSeconds = 0;
+                    body.write(("event: " + event.getClass().getSimpleName() + "\ndata: "
+                                + eventJson(event, session) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    if (event instanceof GameEvent.GameEnded) {
+                        break;
+                    }
+                    if (queue.isEmpty()) {
+                        body.flush();
+                    }
+                } else if (session.isEnded()) {
+                    break;
+                } else if (++idleSeconds >= HEARTBEAT_SECONDS) {
+                    idleSeconds = 0;
+                    body.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            }
+            body.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            session.unsubscribe(subscriber);
+        }
+    }
+    
+    private static String sessionJson(GameSession session) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"id\":").append(session.getId())
+            .append(",\"status\":").append(quote(session.getStatus().name()))
+            .append(",\"players\":[");
+        List<String> names = session.getPlayerNames();
+        for (int seat = 0; seat < names.size(); seat++) {
+            if (seat > 0) {
+                json.append(',');
+            }
+            json.append("{\"seat\":").append(seat)
+                .append(",\"name\":").append(quote(names.get(seat)))
+                .append(",\"awaiting\":").append(quote(session.getAwaiting(seat).name()))
+                .append('}');
+        }
+        return json.append("]}").toString();
+    }
+    
+    /**
+     * A JSON key and the accessor of one event field
+     */
+    private record EventField(String key, Method accessor) {
+    }
+    
+    /**
+     * The fields of each event type, looked up once per class
+     */
+    private static final ClassValue<EventField[]> EVENT_FIELDS = new ClassValue<>() {
+        @Override
+        protected EventField[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            EventField[] fields = new EventField[components.length];
+            for (int i = 0; i < components.length; i++) {
+                fields[i] = new EventField(",\"" + components[i].getName() + "\":", components[i].getAccessor());
+            }
+            return fields;
+        }
+    };
+    
+    /**
+     * Encode an event's fields as JSON: players as seats, spaces as positions, cards as descriptions
+     */
+    static String eventJson(GameEvent event, GameSession session) {
+        StringBuilder json = new StringBuilder("{\"type\":").append(quote(event.getClass().getSimpleName()));
+        for (EventField field : EVENT_FIELDS.get(event.getClass())) {
+            Object value;
+            try {
+                value = field.accessor().invoke(event);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read event field " + field.accessor().getName(), e);
+            }
+            json.append(field.key());
+            if (value == null) {
+                json.append("null");
+            } else if (value instanceof Player) {
+                json.append(session.getSeat((Player) value));
+            } else if (value instanceof BoardSpace) {
+                json.append(((BoardSpace) value).getPosition());
+            } else if (value instanceof Card) {
+                json.append(quote(((Card) value).getDescription()));
+            } else if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                json.append(quote(value.toString()));
+            }
+        }
+        return json.append('}').toString();
+    }
+    
+    private static QueueDecisionMaker.Command parseCommand(String command) {
+        try {
+            return QueueDecisionMaker.Command.valueOf(command.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown command " + command
+                                               + " (expected roll, buy, decline or leave-jail)");
+        }
+    }
+    
+    private static long parseNumber(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+    
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+    
+    static String quote(String value) {
+        StringBuilder json = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                    break;
+            }
+        }
+        return json.append('"').toString();
+    }
+    
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.cfhayes.monopoly;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Everything needed to put a game back exactly where it was: players, ownership and
+ * buildings, whose turn it is, and the dice and card deck state including their
+ * random number generators (which must be GameRandoms) and any rolls buffered by BatchedDice.
+ *
+ * Checkpoints are immutable and can be written to a compact binary form (a few hundred
+ * bytes) for on-disk checkpoints, or turned into independent copies of the game.
+ * A checkpoint records the fingerprint of its board layout and can only be restored onto
+ * a game played on the same board.
+ */
+public final class GameCheckpoint {
+    private static final int MAGIC = 0x4D4E5053; // "MNPS"
+    private static final byte VERSION = 5; // 3: 16-bit squares and deck entries, 4: board fingerprint, 5: batched dice
+    
+    private final String[] playerNames;
+    private final CompactGameState state;
+    private final long[] diceRandomState;
+    private final int die1;
+    private final int die2;
+    private final int doublesCount;
+    private final int batchSize; // 0 for plain Dice
+    private final byte[] diceBuffer;
+    private final int diceCursor;
+    private final long[] deckRandomState;
+    private final int[] deckState;
+    
+    private GameCheckpoint(Game game) {
+        Dice dice = game.getDice();
+        CardDeck cardDeck = game.getCardDeck();
+        this.playerNames = game.getPlayers().stream().map(Player::getName).toArray(String[]::new);
+        this.state = CompactGameState.of(game);
+        this.diceRandomState = gameRandom(dice.getRandom()).getState();
+        this.die1 = dice.getDie1();
+        this.die2 = dice.getDie2();
+        this.doublesCount = dice.getDoublesCount();
+        if (dice instanceof BatchedDice) {
+            BatchedDice batched = (BatchedDice) dice;
+            this.batchSize = batched.getBatchSize();
+            this.diceBuffer = batched.getBuffer();
+            this.diceCursor = batched.getCursor();
+        } else {
+            this.batchSize = 0;
+            this.diceBuffer = new byte[0];
+            this.diceCursor = 0;
+        }
+        this.deckRandomState = gameRandom(cardDeck.getRandom()).getState();
+        this.deckState = cardDeck.getState();
+    }
+    
+    private GameCheckpoint(String[] playerNames, CompactGameState state, long[] diceRandomState, int die1, int die2,
+                           int doublesCount, int batchSize, byte[] diceBuffer, int diceCursor,
+                           long[] deckRandomState, int[] deckState) {
+        this.playerNames = playerNames;
+        this.state = state;
+        this.diceRandomState = diceRandomState;
+        this.die1 = die1;
+        this.die2 = die2;
+        this.doublesCount = doublesCount;
+        this.batchSize = batchSize;
+        this.diceBuffer = diceBuffer;
+        this.diceCursor = diceCursor;
+        this.deckRandomState = deckRandomState;
+        this.deckState = deckState;
+    }
+    
+    /**
+     * Capture the current state of a game
+     */
+    public static GameCheckpoint capture(Game game) {
+        return new GameCheckpoint(game);
+    }
+    
+    /**
+     * Put a game back to this checkpoint. The game must have the same players, in the
+     * same seats, and the same kind of dice as the game the checkpoint was captured from.
+     */
+    public void restore(Game game) {
+        if (game.getPlayerCount() != state.getPlayerCount()) {
+            throw new IllegalArgumentException("Game has " + game.getPlayerCount() + " players, checkpoint has "
+                                               + state.getPlayerCount());
+        }
+        if (BoardLayout.of(game.getBoard()).getFingerprint() != state.getLayout().getFingerprint()) {
+            throw new IllegalArgumentException("Game is played on a different board than the checkpoint");
+        }
+        Dice dice = game.getDice();
+        if ((dice instanceof BatchedDice ? ((BatchedDice) dice).getBatchSize() : 0) != batchSize) {
+            throw new IllegalArgumentException("Game rolls different dice than the checkpoint");
+        }
+        game.getCardDeck().setState(deckState); // Validates the card order before anything changes
+        state.applyTo(game);
+        gameRandom(dice.getRandom()).setState(diceRandomState);
+        dice.restoreRoll(die1, die2, doublesCount);
+        if (batchSize > 0) {
+            ((BatchedDice) dice).restoreBuffer(diceBuffer, diceCursor);
+        }
+        gameRandom(game.getCardDeck().getRandom()).setState(deckRandomState);
+    }
+    
+    /**
+     * Create an independent game at this checkpoint, with its own players, dice and the standard cards
+     */
+    public Game newGame(DecisionMaker decisionMaker, GameEventSink events) {
+        return newGame(decisionMaker, events, new CardDeck());
+    }
+    
+    /**
+     * Create an independent game at this checkpoint with the given card deck, which must hold
+     * the same cards as the game the checkpoint was captured from
+     */
+    public Game newGame(DecisionMaker decisionMaker, GameEventSink events, CardDeck cardDeck) {
+        Dice dice = batchSize > 0 ? new BatchedDice(new GameRandom(), batchSize) : new Dice();
+        Game game = new Game(dice, cardDeck, decisionMaker, events, new Board(state.getLayout()));
+        for (String name : playerNames) {
+            game.addPlayer(name);
+        }
+        restore(game);
+        return game;
+    }
+    
+    /**
+     * Encode this checkpoint in its compact binary form
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            
+            int playerCount = state.getPlayerCount();
+            out.writeByte(playerCount);
+            for (int player = 0; player < playerCount; player++) {
+                out.writeUTF(playerNames[player]);
+                out.writeShort(state.getPosition(player));
+                out.writeInt(state.getCash(player));
+                out.writeBoolean(state.isInJail(player));
+                out.writeByte(state.getJailTurns(player));
+                out.writeByte(state.getJailFreeCards(player));
+            }
+            
+            int size = state.getLayout().getSize();
+            out.writeInt(state.getLayout().getFingerprint());
+            out.writeShort(size);
+            for (int square = 0; square < size; square++) {
+                out.writeByte(state.getOwner(square));
+                out.writeByte(state.getHouses(square) | (state.isMortgaged(square) ? 0x80 : 0));
+            }
+            out.writeByte(state.getCurrentPlayer());
+            out.writeInt(state.getTurn());
+            
+            writeLongs(out, diceRandomState);
+            out.writeByte(die1);
+            out.writeByte(die2);
+            out.writeByte(doublesCount);
+            out.writeInt(batchSize);
+            if (batchSize > 0) {
+                out.writeInt(diceCursor);
+                out.write(diceBuffer);
+            }
+            writeLongs(out, deckRandomState);
+            out.writeShort(deckState.length);
+            for (int value : deckState) {
+                out.writeShort(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Decode a checkpoint written by toByteArray() for a game on the standard board
+     */
+    public static GameCheckpoint fromByteArray(byte[] data) {
+        return fromByteArray(data, BoardLayout.standard());
+    }
+    
+    /**
+     * Decode a checkpoint written by toByteArray() for a game on the given board
+     */
+    public static GameCheckpoint fromByteArray(byte[] data, BoardLayout layout) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Not a game checkpoint");
+            }
+            
+            int playerCount = in.readUnsignedByte();
+            CompactGameState state = new CompactGameState(layout, playerCount, 0);
+            String[] playerNames = new String[playerCount];
+            for (int player = 0; player < playerCount; player++) {
+                playerNames[player] = in.readUTF();
+                int position = in.readUnsignedShort();
+                if (position >= layout.getSize()) {
+                    throw new IllegalArgumentException("Invalid position " + position + " for player " + player);
+                }
+                state.setPosition(player, position);
+                state.setCash(player, in.readInt());
+                state.setInJail(player, in.readBoolean());
+                state.setJailTurns(player, in.readUnsignedByte());
+                state.setJailFreeCards(player, in.readUnsignedByte());
+            }
+            
+            int fingerprint = in.readInt();
+            int size = in.readUnsignedShort();
+            if (size != layout.getSize() || fingerprint != layout.getFingerprint()) {
+                throw new IllegalArgumentException("Checkpoint is for a different board of " + size + " squares");
+            }
+            for (int square = 0; square < size; square++) {
+                int owner = in.readByte();
+                if (owner < CompactGameState.NO_OWNER || owner >= playerCount) {
+                    throw new IllegalArgumentException("Invalid owner " + owner + " for square " + square);
+                }
+                state.setOwner(square, owner);
+                int houses = in.readUnsignedByte();
+                if ((houses & 0x7F) > CompactGameState.HOTEL) {
+                    throw new IllegalArgumentException("Invalid houses " + (houses & 0x7F) + " for square " + square);
+                }
+                state.setHouses(square, houses & 0x7F);
+                state.setMortgaged(square, (houses & 0x80) != 0);
+            }
+            int currentPlayer = in.readUnsignedByte();
+            if (currentPlayer >= playerCount) {
+                throw new IllegalArgumentException("Invalid current player " + currentPlayer);
+            }
+            state.setCurrentPlayer(currentPlayer);
+            state.setTurn(in.readInt());
+            
+            long[] diceRandomState = readLongs(in);
+            int die1 = in.readUnsignedByte();
+            int die2 = in.readUnsignedByte();
+            int doublesCount = in.readUnsignedByte();
+            int batchSize = in.readInt();
+            if (batchSize < 0 || batchSize > data.length) {
+                throw new IllegalArgumentException("Invalid dice batch size " + batchSize);
+            }
+            int diceCursor = 0;
+            byte[] diceBuffer = new byte[batchSize > 1 ? batchSize : 0];
+            if (batchSize > 0) {
+                diceCursor = in.readInt();
+                in.readFully(diceBuffer);
+                BatchedDice.checkBuffer(batchSize, diceBuffer, diceCursor);
+            }
+            long[] deckRandomState = readLongs(in);
+            int[] deckState = new int[in.readUnsignedShort()];
+            for (int i = 0; i < deckState.length; i++) {
+                deckState[i] = in.readUnsignedShort();
+            }
+            return new GameCheckpoint(playerNames, state, diceRandomState, die1, die2, doublesCount, batchSize,
+                                      diceBuffer, diceCursor, deckRandomState, deckState);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated game checkpoint", e);
+        }
+    }
+    
+    /**
+     * Write this checkpoint to a file, replacing it atomically so a crash never leaves half a checkpoint
+     */
+    public void writeTo(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, toByteArray());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Read a checkpoint written by writeTo() for a game on the standard board
+     */
+    public static GameCheckpoint readFrom(Path path) throws IOException {
+        return readFrom(path, BoardLayout.standard());
+    }
+    
+    /**
+     * Read a checkpoint written by writeTo() for a game on the given board
+     */
+    public static GameCheckpoint readFrom(Path path, BoardLayout layout) throws IOException {
+        try {
+            return fromByteArray(Files.readAllBytes(path), layout);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid checkpoint file " + path, e);
+        }
+    }
+    
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+    
+    private static long[] readLongs(DataInputStream in) throws IOException {
+        long[] values = new long[4];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        if ((values[0] | values[1] | values[2] | values[3]) == 0) {
+            throw new IllegalArgumentException("Invalid generator state");
+        }
+        return values;
+    }
+    
+    /**
+     * Get the names of the players, in seat order
+     */
+    public List<String> getPlayerNames() {
+        return List.of(playerNames);
+    }
+    
+    /**
+     * Get the number of turns played when the checkpoint was captured
+     */
+    public int getTurn() {
+        return state.getTurn();
+    }
+    
+    private static GameRandom gameRandom(RandomGenerator random) {
+        if (!(random instanceof GameRandom)) {
+            throw new IllegalStateException("Checkpoints need dice and card decks driven by a GameRandom");
+        }
+        return (GameRandom) random;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Something that happened during a game.
+ * Events are plain data; sinks decide whether to render, store or drop them.
+ */
+public sealed interface GameEvent {
+    
+    /**
+     * The game loop started with the given number of players
+     */
+    record GameStarted(int playerCount) implements GameEvent {
+    }
+    
+    /**
+     * A player's turn began (position and money are taken before the roll)
+     */
+    record TurnStarted(Player player, int turn, int position, int money) implements GameEvent {
+    }
+    
+    /**
+     * A player rolled the dice
+     */
+    record DiceRolled(Player player, int roll) implements GameEvent {
+    }
+    
+    /**
+     * A player moved from one square to another, by dice or by card
+     */
+    record Moved(Player player, int from, int to) implements GameEvent {
+    }
+    
+    /**
+     * A player passed or advanced to GO and collected the salary
+     */
+    record PassedGo(Player player, int amount) implements GameEvent {
+    }
+    
+    /**
+     * A player landed on a space after moving
+     */
+    record Landed(Player player, BoardSpace space) implements GameEvent {
+    }
+    
+    /**
+     * A player bought a property from the bank
+     */
+    record Purchased(Player player, Property property, int price) implements GameEvent {
+    }
+    
+    /**
+     * A player did not buy an unowned property, by choice or for lack of money
+     */
+    record PurchaseDeclined(Player player, Property property, boolean couldAfford) implements GameEvent {
+    }
+    
+    /**
+     * A player paid rent to a property's owner
+     */
+    record RentPaid(Player payer, Player owner, Property property, int amount) implements GameEvent {
+    }
+    
+    /**
+     * A player drew a Chance or Community Chest card
+     */
+    record CardDrawn(Player player, Card card) implements GameEvent {
+    }
+    
+    /**
+     * A player's money changed for a reason other than rent, purchases or GO
+     * (taxes and cards); amount is negative for payments
+     */
+    record CashChanged(Player player, int amount, String reason, int balance) implements GameEvent {
+    }
+    
+    /**
+     * A player was sent to jail
+     */
+    record Jailed(Player player) implements GameEvent {
+    }
+    
+    /**
+     * A player got out of jail (fines are reported separately as CashChanged)
+     */
+    record LeftJail(Player player) implements GameEvent {
+    }
+    
+    /**
+     * A player ran out of money
+     */
+    record Bankrupt(Player player) implements GameEvent {
+    }
+    
+    /**
+     * The game ended; winner is null if nobody has money left
+     */
+    record GameEnded(Player winner) implements GameEvent {
+    }
+}
\ No newline at end of file
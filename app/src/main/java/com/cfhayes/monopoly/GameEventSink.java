@@ -0,0 +1,57 @@
+package com.cfhayes.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * Receives the events of a game.
+ * Emitters check isEnabled before creating an event, so a disabled sink costs nothing.
+ */
+public interface GameEventSink {
+    /**
+     * Drops every event; nothing is created or rendered
+     */
+    GameEventSink NO_OP = new GameEventSink() {
+        @Override
+        public void accept(GameEvent event) {
+        }
+        
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+    
+    /**
+     * Renders every event as text on standard out
+     */
+    GameEventSink CONSOLE = new ConsoleEventRenderer(GameOutput.CONSOLE);
+    
+    void accept(GameEvent event);
+    
+    /**
+     * Whether this sink wants events at all
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+    
+    /**
+     * Combine sinks so every enabled one receives each event
+     */
+    static GameEventSink of(GameEventSink... sinks) {
+        GameEventSink[] enabled = Arrays.stream(sinks)
+                                        .filter(GameEventSink::isEnabled)
+                                        .toArray(GameEventSink[]::new);
+        if (enabled.length == 0) {
+            return NO_OP;
+        }
+        if (enabled.length == 1) {
+            return enabled[0];
+        }
+        return event -> {
+            for (GameEventSink sink : enabled) {
+                sink.accept(event);
+            }
+        };
+    }
+}
\ No newline at end of file
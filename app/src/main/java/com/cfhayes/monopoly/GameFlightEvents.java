@@ -0,0 +1,127 @@
+package com.cfhayes.monopoly;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by Game, shown under "Monopoly" in JDK Mission Control.
+ *
+ * Game follows the usual JFR pattern: it creates an event, calls begin() before the work
+ * and only fills in fields when shouldCommit() says a recording wants the event. Without a
+ * recording the JIT removes the allocation, so the events cost next to nothing. Stack traces
+ * are off by default; enable them in the recording settings when correlating with samples.
+ */
+final class GameFlightEvents {
+    private static final String CATEGORY = "Monopoly";
+    
+    /**
+     * Lets Game check whether bankruptcies are recorded without creating an event every turn
+     */
+    static final EventType BANKRUPTCY = EventType.getEventType(Bankruptcy.class);
+    
+    private GameFlightEvents() {
+    }
+    
+    @Name("com.cfhayes.monopoly.Turn")
+    @Label("Turn")
+    @Category(CATEGORY)
+    @Description("One player's turn, from the first roll until the last roll is resolved")
+    @StackTrace(false)
+    static final class Turn extends Event {
+        @Label("Turn Number")
+        int turn;
+        
+        @Label("Player")
+        String player;
+        
+        @Label("Rolls")
+        int rolls;
+        
+        @Label("Start Position")
+        int startPosition;
+        
+        @Label("End Position")
+        int endPosition;
+        
+        @Label("Start Cash")
+        int startCash;
+        
+        @Label("End Cash")
+        int endCash;
+    }
+    
+    @Name("com.cfhayes.monopoly.Decision")
+    @Label("Decision")
+    @Category(CATEGORY)
+    @Description("Time spent waiting for a DecisionMaker: to roll, to buy a property or to leave jail")
+    @StackTrace(false)
+    static final class Decision extends Event {
+        @Label("Decision")
+        String decision;
+        
+        @Label("Player")
+        String player;
+        
+        @Label("Square")
+        String square;
+        
+        @Label("Answer")
+        boolean answer;
+    }
+    
+    @Name("com.cfhayes.monopoly.RentPayment")
+    @Label("Rent Payment")
+    @Category(CATEGORY)
+    @Description("Rent paid by one player to another")
+    @StackTrace(false)
+    static final class RentPayment extends Event {
+        @Label("Payer")
+        String payer;
+        
+        @Label("Owner")
+        String owner;
+        
+        @Label("Property")
+        String property;
+        
+        @Label("Amount")
+        int amount;
+    }
+    
+    @Name("com.cfhayes.monopoly.CardExecution")
+    @Label("Card Execution")
+    @Category(CATEGORY)
+    @Description("A Chance or Community Chest card being drawn and applied")
+    @StackTrace(false)
+    static final class CardExecution extends Event {
+        @Label("Player")
+        String player;
+        
+        @Label("Deck")
+        String deck;
+        
+        @Label("Card")
+        String card;
+        
+        @Label("Effect")
+        String effect;
+    }
+    
+    @Name("com.cfhayes.monopoly.Bankruptcy")
+    @Label("Bankruptcy")
+    @Category(CATEGORY)
+    @Description("A player running out of money")
+    @StackTrace(false)
+    static final class Bankruptcy extends Event {
+        @Label("Player")
+        String player;
+        
+        @Label("Turn Number")
+        int turn;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.cfhayes.monopoly;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for games in progress: turns played, dice rolls,
+ * rent payments, card draws, purchases, and how long turns and player decisions take.
+ *
+ * One instance may be shared by any number of games on any number of threads; every
+ * counter is a LongAdder and each thread records latencies into its own histogram shard,
+ * so concurrent games do not contend. Games check isEnabled
+ * before reading the clock, so DISABLED costs a single branch per turn and decision.
+ */
+public class GameMetrics {
+    /**
+     * Records nothing; games skip all timing and counting
+     */
+    public static final GameMetrics DISABLED = new GameMetrics(false);
+    
+    private final boolean enabled;
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder rolls = new LongAdder();
+    private final LongAdder rentPayments = new LongAdder();
+    private final LongAdder rentCollected = new LongAdder();
+    private final LongAdder cardDraws = new LongAdder();
+    private final LongAdder purchases = new LongAdder();
+    private final LatencyHistogram turnLatency = new LatencyHistogram();
+    private final LatencyHistogram decisionLatency = new LatencyHistogram();
+    
+    public GameMetrics() {
+        this(true);
+    }
+    
+    private GameMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Whether games should record into these metrics at all
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    void recordTurn(long nanos) {
+        turns.increment();
+        turnLatency.record(nanos);
+    }
+    
+    void recordRoll() {
+        rolls.increment();
+    }
+    
+    void recordRent(int rent) {
+        rentPayments.increment();
+        rentCollected.add(rent);
+    }
+    
+    void recordCardDraw() {
+        cardDraws.increment();
+    }
+    
+    void recordPurchase() {
+        purchases.increment();
+    }
+    
+    /**
+     * Record how long a DecisionMaker took to answer (buying a property or leaving jail)
+     */
+    void recordDecision(long nanos) {
+        decisionLatency.record(nanos);
+    }
+    
+    public long getTurns() {
+        return turns.sum();
+    }
+    
+    public long getRolls() {
+        return rolls.sum();
+    }
+    
+    public long getRentPayments() {
+        return rentPayments.sum();
+    }
+    
+    /**
+     * Get the total rent paid in all games
+     */
+    public long getRentCollected() {
+        return rentCollected.sum();
+    }
+    
+    public long getCardDraws() {
+        return cardDraws.sum();
+    }
+    
+    public long getPurchases() {
+        return purchases.sum();
+    }
+    
+    /**
+     * Get the histogram of whole turns, including any time spent waiting for a player to roll
+     */
+    public LatencyHistogram getTurnLatency() {
+        return turnLatency;
+    }
+    
+    /**
+     * Get the histogram of DecisionMaker answers (not counting waits for a roll)
+     */
+    public LatencyHistogram getDecisionLatency() {
+        return decisionLatency;
+    }
+    
+    /**
+     * Zero every counter and histogram
+     */
+    public void reset() {
+        turns.reset();
+        rolls.reset();
+        rentPayments.reset();
+        rentCollected.reset();
+        cardDraws.reset();
+        purchases.reset();
+        turnLatency.reset();
+        decisionLatency.reset();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("turns=%d rolls=%d rents=%d ($%d) cards=%d purchases=%d%n"
+                             + "  turn latency:     %s%n"
+                             + "  decision latency: %s",
+                             getTurns(), getRolls(), getRentPayments(), getRentCollected(), getCardDraws(),
+                             getPurchases(), turnLatency, decisionLatency);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Destination for text output: console prompts and events rendered by ConsoleEventRenderer.
+ * SILENT reports itself as disabled so no messages are built or printed.
+ */
+public interface GameOutput {
+    /**
+     * Prints every message to standard out
+     */
+    GameOutput CONSOLE = System.out::println;
+    
+    /**
+     * Discards all output
+     */
+    GameOutput SILENT = new GameOutput() {
+        @Override
+        public void println(String message) {
+        }
+        
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+    
+    void println(String message);
+    
+    /**
+     * Whether messages are shown at all; callers skip building messages when this is false
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
\ No newline at end of file
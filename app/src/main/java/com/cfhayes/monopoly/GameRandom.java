@@ -0,0 +1,120 @@
+package com.cfhayes.monopoly;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fast, non-synchronized random number generator (xoshiro256**) for dice and card shuffles.
+ * Unlike java.util.Random there is no shared atomic seed, the full state can be read and
+ * restored, and independent reproducible streams can be derived for each simulated game.
+ * Instances are not thread-safe; give every game its own.
+ */
+public final class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+    
+    /**
+     * Create a generator with an unpredictable seed
+     */
+    public GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+    
+    /**
+     * Create a generator from a seed; the same seed always gives the same sequence
+     */
+    public GameRandom(long seed) {
+        // Expand the seed with SplitMix64, as recommended for xoshiro
+        long x = seed;
+        s0 = mix(x += GOLDEN_GAMMA);
+        s1 = mix(x += GOLDEN_GAMMA);
+        s2 = mix(x += GOLDEN_GAMMA);
+        s3 = mix(x + GOLDEN_GAMMA);
+    }
+    
+    /**
+     * Get the generator for one stream of a run, e.g. one game of a simulation.
+     * Streams with different indexes are statistically independent.
+     */
+    public static GameRandom forStream(long seed, long stream) {
+        return new GameRandom(mix(seed + (stream + 1) * GOLDEN_GAMMA));
+    }
+    
+    /**
+     * Derive a new, independent generator from this one (advances this generator)
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+    
+    /**
+     * SplitMix64 finalizer: scrambles a 64-bit value
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+    
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+    
+    /**
+     * Uniform int in [0, bound) using Lemire's multiply-shift rejection method
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        long product = (nextLong() >>> 32) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextLong() >>> 32) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+    
+    /**
+     * Copy of the generator's internal state (four longs)
+     */
+    public long[] getState() {
+        return new long[] { s0, s1, s2, s3 };
+    }
+    
+    /**
+     * Restore a state previously returned by getState()
+     */
+    public void setState(long[] state) {
+        if (state.length != 4 || (state[0] | state[1] | state[2] | state[3]) == 0) {
+            throw new IllegalArgumentException("Invalid generator state");
+        }
+        s0 = state[0];
+        s1 = state[1];
+        s2 = state[2];
+        s3 = state[3];
+    }
+}
\ No newline at end of file
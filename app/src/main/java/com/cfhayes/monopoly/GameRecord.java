@@ -0,0 +1,154 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What it takes to reproduce a game exactly: the dice and card deck seeds (or the run seed
+ * and stream index of a game from SimulationRunner or Tournament), the board and cards, the
+ * players in seat order, and every decision the players made.
+ */
+public class GameRecord {
+    /**
+     * Stream index of records whose dice and card deck have their own seeds
+     */
+    public static final long NO_STREAM = -1;
+    
+    private final long diceSeed;
+    private final long cardDeckSeed;
+    private final long streamIndex;
+    private final boolean batchedDice;
+    private final BoardLayout layout;
+    private final List<Card> cards;
+    private final List<String> playerNames;
+    private final DecisionLog decisions;
+    
+    public GameRecord(long diceSeed, long cardDeckSeed, List<String> playerNames) {
+        this(diceSeed, cardDeckSeed, playerNames, new DecisionLog());
+    }
+    
+    public GameRecord(long diceSeed, long cardDeckSeed, List<String> playerNames, DecisionLog decisions) {
+        this(diceSeed, cardDeckSeed, NO_STREAM, false, BoardLayout.standard(), CardDeck.getStandardCards(),
+             playerNames, decisions);
+    }
+    
+    private GameRecord(long diceSeed, long cardDeckSeed, long streamIndex, boolean batchedDice, BoardLayout layout,
+                       List<Card> cards, List<String> playerNames, DecisionLog decisions) {
+        if (playerNames.size() < 2 || playerNames.size() > 8) {
+            throw new IllegalArgumentException("Players per game must be between 2 and 8");
+        }
+        this.diceSeed = diceSeed;
+        this.cardDeckSeed = cardDeckSeed;
+        this.streamIndex = streamIndex;
+        this.batchedDice = batchedDice;
+        this.layout = layout;
+        this.cards = cards;
+        this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+        this.decisions = decisions;
+    }
+    
+    /**
+     * Create a record of game streamIndex of a run, whose dice and card deck are split from
+     * GameRandom.forStream(seed, streamIndex) as in SimulationRunner (batchedDice) and
+     * Tournament (plain Dice), on the standard board
+     */
+    public static GameRecord forStream(long seed, long streamIndex, boolean batchedDice, List<String> playerNames) {
+        return forStream(seed, streamIndex, batchedDice, BoardLayout.standard(), CardDeck.getStandardCards(),
+                         playerNames);
+    }
+    
+    /**
+     * Create a record of game streamIndex of a run played on the given board with the given cards
+     */
+    public static GameRecord forStream(long seed, long streamIndex, boolean batchedDice, BoardLayout layout,
+                                       List<Card> cards, List<String> playerNames) {
+        if (streamIndex < 0) {
+            throw new IllegalArgumentException("Stream index must not be negative");
+        }
+        return new GameRecord(seed, seed, streamIndex, batchedDice, layout, List.copyOf(cards), playerNames,
+                              new DecisionLog());
+    }
+    
+    /**
+     * Create a game on one stream of a run: the dice and then the card deck are driven by
+     * generators split from GameRandom.forStream(seed, streamIndex)
+     */
+    static Game newStreamGame(long seed, long streamIndex, boolean batchedDice, BoardLayout layout, List<Card> cards,
+                              DecisionMaker defaultDecisionMaker, GameEventSink events) {
+        GameRandom random = GameRandom.forStream(seed, streamIndex);
+        Dice dice = batchedDice ? new BatchedDice(random.split()) : new Dice(random.split());
+        return new Game(dice, new CardDeck(random.split(), cards), defaultDecisionMaker, events, new Board(layout));
+    }
+    
+    private Game newGame(DecisionMaker defaultDecisionMaker, GameEventSink events) {
+        if (streamIndex == NO_STREAM) {
+            return new Game(new Dice(diceSeed), new CardDeck(new GameRandom(cardDeckSeed), cards), defaultDecisionMaker,
+                            events, new Board(layout));
+        }
+        return newStreamGame(diceSeed, streamIndex, batchedDice, layout, cards, defaultDecisionMaker, events);
+    }
+    
+    /**
+     * Create a game whose decisions, made by the given decision maker for every seat,
+     * are recorded into this record
+     */
+    public Game startRecording(DecisionMaker decisionMaker, GameEventSink events) {
+        return startRecording(Collections.nCopies(playerNames.size(), decisionMaker), events);
+    }
+    
+    /**
+     * Create a game with one decision maker per seat whose decisions are recorded into this record
+     */
+    public Game startRecording(List<DecisionMaker> decisionMakers, GameEventSink events) {
+        if (decisionMakers.size() != playerNames.size()) {
+            throw new IllegalArgumentException("Need one decision maker per player");
+        }
+        Game game = newGame(DecisionMaker.NEVER_BUY, events);
+        for (int i = 0; i < playerNames.size(); i++) {
+            game.addPlayer(playerNames.get(i), new RecordingDecisionMaker(decisionMakers.get(i), decisions));
+        }
+        return game;
+    }
+    
+    /**
+     * Create a fresh game that replays the recorded decisions
+     */
+    Game newReplayGame(ReplayDecisionMaker decisionMaker, GameEventSink events) {
+        Game game = newGame(decisionMaker, events);
+        for (String name : playerNames) {
+            game.addPlayer(name);
+        }
+        return game;
+    }
+    
+    public long getDiceSeed() {
+        return diceSeed;
+    }
+    
+    public long getCardDeckSeed() {
+        return cardDeckSeed;
+    }
+    
+    /**
+     * Get the stream index of a game from a run, or NO_STREAM if the dice and deck have their own seeds
+     */
+    public long getStreamIndex() {
+        return streamIndex;
+    }
+    
+    /**
+     * Whether the game rolled BatchedDice
+     */
+    public boolean isBatchedDice() {
+        return batchedDice;
+    }
+    
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+    
+    public DecisionLog getDecisions() {
+        return decisions;
+    }
+}
\ No newline at end of file
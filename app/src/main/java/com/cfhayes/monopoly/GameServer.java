@@ -0,0 +1,137 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many live games in one process. Every game runs on its own virtual thread, so a
+ * game waiting for a human costs a parked virtual thread rather than a platform thread,
+ * and thousands of mostly idle games can be held at once.
+ * A game that has ended stays available for a retention period, so clients can read the
+ * result, and is then forgotten along with its players and queues.
+ */
+public class GameServer implements AutoCloseable {
+    /**
+     * How long ended games are kept by default
+     */
+    public static final Duration DEFAULT_RETENTION = Duration.ofMinutes(5);
+    
+    private final int maxTurns;
+    private final ThreadFactory threadFactory;
+    private final Duration retention;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    
+    public GameServer() {
+        this(10000);
+    }
+    
+    /**
+     * Create a server whose games end after at most maxTurns turns
+     */
+    public GameServer(int maxTurns) {
+        this(maxTurns, Thread.ofVirtual().name("game-", 1).factory());
+    }
+    
+    /**
+     * Create a server that runs games on threads from the given factory
+     */
+    public GameServer(int maxTurns, ThreadFactory threadFactory) {
+        this(maxTurns, threadFactory, DEFAULT_RETENTION);
+    }
+    
+    /**
+     * Create a server that forgets each game the given time after it ends
+     */
+    public GameServer(int maxTurns, ThreadFactory threadFactory, Duration retention) {
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("Retention must not be negative");
+        }
+        this.maxTurns = maxTurns;
+        this.threadFactory = threadFactory;
+        this.retention = retention;
+    }
+    
+    /**
+     * Create and start a game with the given players in seat order
+     */
+    public GameSession createGame(List<String> playerNames) {
+        return createGame(playerNames, new Dice(), new CardDeck());
+    }
+    
+    /**
+     * Create and start a game whose dice and cards follow the given seed
+     */
+    public GameSession createGame(List<String> playerNames, long seed) {
+        GameRandom random = new GameRandom(seed);
+        return createGame(playerNames, new Dice(random.split()), new CardDeck(random.split()));
+    }
+    
+    private GameSession createGame(List<String> playerNames, Dice dice, CardDeck cardDeck) {
+        GameSession session = new GameSession(nextId.getAndIncrement(), playerNames, dice, cardDeck);
+        sessions.put(session.getId(), session);
+        session.start(threadFactory.newThread(() -> {
+            session.run(maxTurns);
+            expire(session);
+        }));
+        return session;
+    }
+    
+    /**
+     * Forget an ended game once the retention period has passed
+     */
+    private void expire(GameSession session) {
+        Runnable forget = () -> sessions.remove(session.getId(), session);
+        if (retention.isZero()) {
+            forget.run();
+        } else {
+            CompletableFuture.runAsync(forget, CompletableFuture.delayedExecutor(retention.toNanos(),
+                                                                                TimeUnit.NANOSECONDS));
+        }
+    }
+    
+    /**
+     * Get a game by id, or null if there is no such game
+     */
+    public GameSession getGame(long id) {
+        return sessions.get(id);
+    }
+    
+    public Collection<GameSession> getGames() {
+        return Collections.unmodifiableCollection(new ArrayList<>(sessions.values()));
+    }
+    
+    public int getGameCount() {
+        return sessions.size();
+    }
+    
+    /**
+     * Stop a game (if still running) and forget it
+     */
+    public void removeGame(long id) {
+        GameSession session = sessions.remove(id);
+        if (session != null) {
+            session.stop();
+        }
+    }
+    
+    /**
+     * Stop every game
+     */
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) {
+            session.stop();
+        }
+        sessions.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A live game hosted by a GameServer: the game runs on its own thread and each seat's
+ * input arrives through a QueueDecisionMaker. Events are passed on to subscribers from
+ * the game thread, so subscribers must be quick and thread-safe.
+ */
+public class GameSession implements GameEventSink {
+    
+    public enum Status {
+        CREATED, RUNNING, FINISHED, STOPPED, FAILED
+    }
+    
+    private final long id;
+    private final List<String> playerNames;
+    private final List<QueueDecisionMaker> seats;
+    private final Game game;
+    private final List<Player> players;
+    private final List<GameEventSink> subscribers = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile Status status = Status.CREATED;
+    private volatile Thread thread;
+    private volatile RuntimeException failure;
+    
+    GameSession(long id, List<String> playerNames, Dice dice, CardDeck cardDeck) {
+        if (playerNames.size() < 2 || playerNames.size() > 8) {
+            throw new IllegalArgumentException("Players per game must be between 2 and 8");
+        }
+        if (new HashSet<>(playerNames).size() < playerNames.size()) {
+            throw new IllegalArgumentException("Player names must be unique");
+        }
+        this.id = id;
+        this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+        this.seats = new ArrayList<>();
+        this.game = new Game(dice, cardDeck, DecisionMaker.NEVER_BUY, this);
+        for (String name : playerNames) {
+            QueueDecisionMaker seat = new QueueDecisionMaker();
+            seats.add(seat);
+            game.addPlayer(name, seat);
+        }
+        this.players = game.getPlayers();
+    }
+    
+    /**
+     * Start the game loop on the given (not yet started) thread
+     */
+    void start(Thread thread) {
+        this.thread = thread;
+        thread.start();
+    }
+    
+    /**
+     * The game loop; runs on the session's own thread
+     */
+    void run(int maxTurns) {
+        status = Status.RUNNING;
+        try {
+            game.play(maxTurns);
+            status = Status.FINISHED;
+        } catch (IllegalStateException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                status = Status.STOPPED;
+            } else {
+                failure = e;
+                status = Status.FAILED;
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            status = Status.FAILED;
+        } finally {
+            done.countDown();
+        }
+    }
+    
+    /**
+     * Pass a player's command to the game (safe to call from any thread)
+     */
+    public void submit(int seat, QueueDecisionMaker.Command command) {
+        if (seat < 0 || seat >= seats.size()) {
+            throw new IllegalArgumentException("No player at seat " + seat);
+        }
+        seats.get(seat).submit(command);
+    }
+    
+    /**
+     * Get what the game is waiting for from a seat
+     */
+    public QueueDecisionMaker.Awaiting getAwaiting(int seat) {
+        return seats.get(seat).getAwaiting();
+    }
+    
+    public void subscribe(GameEventSink subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    public void unsubscribe(GameEventSink subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    /**
+     * Events are only created while someone is subscribed
+     */
+    @Override
+    public boolean isEnabled() {
+        return !subscribers.isEmpty();
+    }
+    
+    @Override
+    public void accept(GameEvent event) {
+        for (GameEventSink subscriber : subscribers) {
+            if (subscriber.isEnabled()) {
+                subscriber.accept(event);
+            }
+        }
+    }
+    
+    /**
+     * Stop the game; a game waiting for input ends right away
+     */
+    public void stop() {
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+    
+    /**
+     * Wait for the game to end; returns false if it is still running after the timeout
+     */
+    public boolean awaitEnd(Duration timeout) throws InterruptedException {
+        return done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+    
+    /**
+     * Get the seat of one of this game's players, or -1 (safe to call from any thread)
+     */
+    public int getSeat(Player player) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Check whether the game is over, for whatever reason
+     */
+    public boolean isEnded() {
+        return done.getCount() == 0;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    /**
+     * Get the error that ended a FAILED game
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+    
+    /**
+     * Get the hosted game. It is driven by the session thread, so only read it once the game has ended.
+     */
+    public Game getGame() {
+        return game;
+    }
+}
\ No newline at end of file
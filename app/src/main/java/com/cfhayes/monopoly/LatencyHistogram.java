@@ -0,0 +1,150 @@
+package com.cfhayes.monopoly;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of nanosecond latencies in the style of HdrHistogram.
+ * Values below 64 get a bucket each; above that every power of two is split into 32
+ * equal buckets, so any recorded value is reported to within about 3% whatever its size.
+ * Each recording thread gets its own shard that only it writes, so recording needs no atomic
+ * read-modify-write and threads never contend; the shards are merged when the histogram is read.
+ * A shard is about 15 KB, so record from a pool of worker threads rather than a thread per task.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    private static final int BUCKETS = LINEAR_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    
+    // Slots after the buckets in each shard
+    private static final int COUNT = BUCKETS;
+    private static final int SUM = BUCKETS + 1;
+    private static final int MAX = BUCKETS + 2;
+    
+    private final List<AtomicLongArray> shards = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<AtomicLongArray> shard = ThreadLocal.withInitial(this::newShard);
+    
+    /**
+     * Record one latency in nanoseconds (negative values count as zero)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        AtomicLongArray values = shard.get();
+        // Only this thread writes its shard, so ordered stores are enough for readers to see them
+        int bucket = bucketOf(value);
+        values.lazySet(bucket, values.get(bucket) + 1);
+        values.lazySet(COUNT, values.get(COUNT) + 1);
+        values.lazySet(SUM, values.get(SUM) + value);
+        if (value > values.get(MAX)) {
+            values.lazySet(MAX, value);
+        }
+    }
+    
+    private AtomicLongArray newShard() {
+        AtomicLongArray values = new AtomicLongArray(BUCKETS + 3);
+        shards.add(values);
+        return values;
+    }
+    
+    /**
+     * Add up one slot over every thread's shard
+     */
+    private long sumOf(int slot) {
+        long total = 0;
+        for (AtomicLongArray values : shards) {
+            total += values.get(slot);
+        }
+        return total;
+    }
+    
+    static int bucketOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+    
+    /**
+     * Get the largest value that falls into a bucket
+     */
+    static long highestValueIn(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    public long getCount() {
+        return sumOf(COUNT);
+    }
+    
+    /**
+     * Get the mean latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long recorded = sumOf(COUNT);
+        return recorded == 0 ? 0 : (double) sumOf(SUM) / recorded;
+    }
+    
+    /**
+     * Get the largest latency recorded, in nanoseconds
+     */
+    public long getMax() {
+        long max = 0;
+        for (AtomicLongArray values : shards) {
+            max = Math.max(max, values.get(MAX));
+        }
+        return max;
+    }
+    
+    /**
+     * Get the latency (in nanoseconds, rounded up to its bucket) that the given percentage
+     * of recorded values do not exceed; 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (AtomicLongArray values : shards) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                long count = values.get(bucket);
+                counts[bucket] += count;
+                total += count;
+            }
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) {
+                return Math.min(highestValueIn(bucket), getMax());
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Forget everything recorded so far (values recorded meanwhile may be partly kept)
+     */
+    public void reset() {
+        for (AtomicLongArray values : shards) {
+            for (int slot = 0; slot < values.length(); slot++) {
+                values.set(slot, 0);
+            }
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                             getCount(), getMean() / 1e3, getValueAtPercentile(50) / 1e3,
+                             getValueAtPercentile(99) / 1e3, getValueAtPercentile(99.9) / 1e3, getMax() / 1e3);
+    }
+}
\ No newline at end of file
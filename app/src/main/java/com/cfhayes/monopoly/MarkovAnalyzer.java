@@ -0,0 +1,237 @@
+package com.cfhayes.monopoly;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes exact long-run landing probabilities for every square by treating the board as a
+ * Markov chain and solving for its stationary distribution with power iteration.
+ *
+ * One step of the chain is one roll of the dice. With the doubles and jail rules enabled, a state
+ * is a square plus the number of doubles already rolled this turn, or one of three in-jail states
+ * (players stay in jail until they roll doubles, for at most three turns). Without them, a state
+ * is just a square and "Go to Jail" simply moves the player to the jail square.
+ */
+public class MarkovAnalyzer {
+    private static final int MAX_ITERATIONS = 10000;
+    private static final double TOLERANCE = 1e-13;
+    private static final int JAIL_STATES = 3;
+    
+    private final BoardLayout layout;
+    private final List<Card> chanceCards;
+    private final List<Card> communityChestCards;
+    private final boolean doublesAndJailRules;
+    private final int stateCount;
+    private int iterations;
+    
+    public MarkovAnalyzer(BoardLayout layout, List<Card> chanceCards, List<Card> communityChestCards,
+                          boolean doublesAndJailRules) {
+        this.layout = layout;
+        this.chanceCards = chanceCards;
+        this.communityChestCards = communityChestCards;
+        this.doublesAndJailRules = doublesAndJailRules;
+        this.stateCount = doublesAndJailRules ? layout.getSize() * 3 + JAIL_STATES : layout.getSize();
+    }
+    
+    /**
+     * Analyzer for the standard board and decks with the full doubles and jail rules
+     */
+    public static MarkovAnalyzer standard() {
+        return new MarkovAnalyzer(BoardLayout.standard(), CardDeck.getChanceCards(),
+                                  CardDeck.getCommunityChestCards(), true);
+    }
+    
+    /**
+     * Solve for the probability of ending a roll on each square.
+     * Players in jail count towards the jail square.
+     */
+    public double[] landingProbabilities() {
+        double[] stationary = stationaryDistribution();
+        int size = layout.getSize();
+        double[] landing = new double[size];
+        for (int state = 0; state < stateCount; state++) {
+            landing[squareOf(state)] += stationary[state];
+        }
+        return landing;
+    }
+    
+    /**
+     * Probability that a player is actually in jail (not just visiting) at any given roll
+     */
+    public double inJailProbability() {
+        if (!doublesAndJailRules) {
+            return 0;
+        }
+        double[] stationary = stationaryDistribution();
+        double inJail = 0;
+        for (int k = 0; k < JAIL_STATES; k++) {
+            inJail += stationary[jailState(k)];
+        }
+        return inJail;
+    }
+    
+    /**
+     * Number of power iterations the last solve needed
+     */
+    public int getIterations() {
+        return iterations;
+    }
+    
+    /**
+     * Find the stationary distribution of the transition matrix by power iteration
+     */
+    double[] stationaryDistribution() {
+        double[] matrix = transitionMatrix();
+        double[] current = new double[stateCount];
+        double[] next = new double[stateCount];
+        current[0] = 1.0; // Everyone starts on GO
+        
+        for (iterations = 1; iterations <= MAX_ITERATIONS; iterations++) {
+            Arrays.fill(next, 0);
+            for (int from = 0; from < stateCount; from++) {
+                double p = current[from];
+                if (p == 0) {
+                    continue;
+                }
+                int row = from * stateCount;
+                for (int to = 0; to < stateCount; to++) {
+                    next[to] += p * matrix[row + to];
+                }
+            }
+            
+            // Average with the previous vector so periodic chains still converge
+            double difference = 0;
+            for (int state = 0; state < stateCount; state++) {
+                double averaged = 0.5 * (next[state] + current[state]);
+                difference += Math.abs(averaged - current[state]);
+                next[state] = averaged;
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (difference < TOLERANCE) {
+                break;
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Build the dense, row-major transition matrix (row = from state, column = to state)
+     */
+    double[] transitionMatrix() {
+        double[] matrix = new double[stateCount * stateCount];
+        double rollProbability = 1.0 / 36;
+        int size = layout.getSize();
+        
+        for (int square = 0; square < size; square++) {
+            int maxDoubles = doublesAndJailRules ? 3 : 1;
+            for (int doubles = 0; doubles < maxDoubles; doubles++) {
+                int from = normalState(square, doubles);
+                for (int die1 = 1; die1 <= 6; die1++) {
+                    for (int die2 = 1; die2 <= 6; die2++) {
+                        boolean isDoubles = die1 == die2;
+                        if (doublesAndJailRules && isDoubles && doubles == 2) {
+                            // Third doubles in a row: straight to jail
+                            matrix[from * stateCount + jailState(0)] += rollProbability;
+                        } else {
+                            int nextDoubles = doublesAndJailRules && isDoubles ? doubles + 1 : 0;
+                            move(matrix, from, square, die1 + die2, nextDoubles, rollProbability);
+                        }
+                    }
+                }
+            }
+        }
+        
+        if (doublesAndJailRules) {
+            for (int k = 0; k < JAIL_STATES; k++) {
+                int from = jailState(k);
+                for (int die1 = 1; die1 <= 6; die1++) {
+                    for (int die2 = 1; die2 <= 6; die2++) {
+                        if (die1 == die2 || k == JAIL_STATES - 1) {
+                            // Doubles (or the last attempt, after paying the fine) moves by the roll and ends the turn
+                            move(matrix, from, layout.getJailPosition(), die1 + die2, 0, rollProbability);
+                        } else {
+                            matrix[from * stateCount + jailState(k + 1)] += rollProbability;
+                        }
+                    }
+                }
+            }
+        }
+        return matrix;
+    }
+    
+    /**
+     * Spread the probability of moving by roll from a square over every place the move can end
+     */
+    private void move(double[] matrix, int from, int square, int roll, int nextDoubles, double probability) {
+        int size = layout.getSize();
+        int target = (square + roll) % size;
+        int row = from * stateCount;
+        
+        switch (layout.getKind(target)) {
+            case GO_TO_JAIL:
+                matrix[row + sendToJail()] += probability;
+                break;
+            case CHANCE:
+                drawCard(matrix, row, target, chanceCards, nextDoubles, probability);
+                break;
+            case COMMUNITY_CHEST:
+                drawCard(matrix, row, target, communityChestCards, nextDoubles, probability);
+                break;
+            default:
+                matrix[row + normalState(target, nextDoubles)] += probability;
+                break;
+        }
+    }
+    
+    /**
+     * Spread probability over the outcomes of drawing one card uniformly from a deck
+     */
+    private void drawCard(double[] matrix, int row, int square, List<Card> cards, int nextDoubles,
+                          double probability) {
+        double cardProbability = probability / cards.size();
+        int size = layout.getSize();
+        for (Card card : cards) {
+            int destination = square;
+            boolean toJail = false;
+            switch (card.getEffect()) {
+                case ADVANCE:
+                    destination = card.getOperand1();
+                    break;
+                case GO_TO_JAIL:
+                    toJail = true;
+                    break;
+                case ADVANCE_TO_GO:
+                    destination = 0;
+                    break;
+                case GO_BACK:
+                    destination = (square - card.getOperand1() + size) % size;
+                    break;
+                default:
+                    break;
+            }
+            int state = toJail ? sendToJail() : normalState(destination, nextDoubles);
+            matrix[row + state] += cardProbability;
+        }
+    }
+    
+    private int sendToJail() {
+        return doublesAndJailRules ? jailState(0) : normalState(layout.getJailPosition(), 0);
+    }
+    
+    private int normalState(int square, int doubles) {
+        return doublesAndJailRules ? square * 3 + doubles : square;
+    }
+    
+    private int jailState(int attempts) {
+        return layout.getSize() * 3 + attempts;
+    }
+    
+    private int squareOf(int state) {
+        if (!doublesAndJailRules) {
+            return state;
+        }
+        return state >= layout.getSize() * 3 ? layout.getJailPosition() : state / 3;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides purchases by Monte Carlo search: each option (decline or buy) is tried in many
+ * fast headless rollouts on the compact engine, and the option that leads to the best
+ * results for the player is chosen.
+ *
+ * Options are picked for each rollout with UCB1, so promising options get more rollouts.
+ * The rollouts for one decision are split between several fork-join workers that each run
+ * their own search; their statistics are merged at the end (root parallelization).
+ * A decision stops at the rollout budget or the time budget, whichever comes first.
+ *
+ * The decision maker is thread-safe and can be shared by games running in parallel.
+ */
+public class MctsDecisionMaker implements DecisionMaker {
+    private static final int DECLINE = 0;
+    private static final int BUY = 1;
+    private static final double EXPLORATION = Math.sqrt(2);
+    
+    private final int rolloutsPerDecision;
+    private final Duration timeBudget;
+    private final int rolloutTurns;
+    private final int workers;
+    private final ForkJoinPool pool;
+    private final long seed;
+    private final AtomicLong decisions = new AtomicLong();
+    
+    /**
+     * Create a decision maker that runs the given number of rollouts per decision on the common pool
+     */
+    public MctsDecisionMaker(int rolloutsPerDecision) {
+        this(rolloutsPerDecision, Duration.ofSeconds(1), 200, ForkJoinPool.commonPool(),
+             ForkJoinPool.getCommonPoolParallelism(), System.nanoTime());
+    }
+    
+    /**
+     * Create a decision maker with full control over the search.
+     *
+     * @param rolloutsPerDecision maximum number of rollouts per decision
+     * @param timeBudget maximum time spent per decision
+     * @param rolloutTurns number of turns each rollout plays before the position is scored
+     * @param pool pool the rollouts run on
+     * @param workers number of independent searches the rollouts are split between
+     * @param seed seed for the rollouts' dice and cards, for reproducible decisions
+     */
+    public MctsDecisionMaker(int rolloutsPerDecision, Duration timeBudget, int rolloutTurns, ForkJoinPool pool,
+                             int workers, long seed) {
+        if (rolloutsPerDecision < 2) {
+            throw new IllegalArgumentException("At least 2 rollouts per decision are required");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        this.rolloutsPerDecision = rolloutsPerDecision;
+        this.timeBudget = timeBudget;
+        this.rolloutTurns = rolloutTurns;
+        this.pool = pool;
+        this.workers = Math.min(workers, rolloutsPerDecision / 2);
+        this.seed = seed;
+    }
+    
+    @Override
+    public boolean shouldBuyProperty(Player player, Property property, Game game) {
+        if (player.getMoney() < property.getPrice()) {
+            return false;
+        }
+        CompactGameState root = CompactGameState.of(game);
+        int seat = game.getPlayers().indexOf(player);
+        int square = property.getPosition();
+        
+        // After doubles the player rolls again once this roll is resolved, so rollouts first finish
+        // the turn; otherwise the decision is the last thing that happens this turn
+        int doublesRolled = game.isRollingAgain() ? game.getDice().getDoublesCount() : 0;
+        if (doublesRolled == 0) {
+            root.setCurrentPlayer((root.getCurrentPlayer() + 1) % root.getPlayerCount());
+        }
+        double[] values = evaluate(root, seat, square, doublesRolled, game.getCardDeck());
+        return values[BUY] > values[DECLINE];
+    }
+    
+    /**
+     * Estimate the value of declining and buying a square for a player, as the player's
+     * average rollout score for each option (indexed DECLINE, BUY), drawing the standard cards
+     */
+    double[] evaluate(CompactGameState root, int seat, int square) {
+        return evaluate(root, seat, square, 0, new CardDeck());
+    }
+    
+    /**
+     * Estimate the option values for a decision made in the middle of the current player's turn,
+     * after doublesRolled doubles in a row (0 if the turn ends with the decision), with rollouts
+     * drawing from their own decks of the given deck's cards
+     */
+    double[] evaluate(CompactGameState root, int seat, int square, int doublesRolled, CardDeck cards) {
+        CompactGameState[] options = new CompactGameState[2];
+        options[DECLINE] = root.copy();
+        options[BUY] = root.copy();
+        options[BUY].subtractCash(seat, root.getLayout().getPrice(square));
+        options[BUY].setOwner(square, seat);
+        
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        long streamSeed = GameRandom.forStream(seed, decisions.getAndIncrement()).nextLong();
+        SearchStats stats = pool.invoke(new SearchTask(options, seat, doublesRolled, cards, streamSeed, deadline, 0,
+                                                          workers));
+        
+        double[] values = new double[2];
+        for (int option = 0; option < 2; option++) {
+            values[option] = stats.visits[option] == 0 ? 0 : stats.rewards[option] / stats.visits[option];
+        }
+        return values;
+    }
+    
+    /**
+     * Run one worker's share of the rollouts
+     */
+    private SearchStats search(CompactGameState[] options, int seat, int doublesRolled, CardDeck cards,
+                               GameRandom random, long deadline, int rollouts) {
+        SearchStats stats = new SearchStats();
+        CompactEngine engine = new CompactEngine(new Dice(random.split()), cards.withRandom(random.split()),
+                                                 PurchasePolicy.ALWAYS_BUY);
+        for (int i = 0; i < rollouts; i++) {
+            if (i >= 2 && System.nanoTime() > deadline) {
+                break;
+            }
+            int option = select(stats, i);
+            CompactGameState state = options[option].copy();
+            if (doublesRolled > 0) {
+                engine.continueTurn(state, doublesRolled);
+            }
+            engine.play(state, rolloutTurns);
+            stats.visits[option]++;
+            stats.rewards[option] += score(state, seat);
+        }
+        return stats;
+    }
+    
+    /**
+     * Pick the option with the highest UCB1 bound, trying each option once first
+     */
+    private static int select(SearchStats stats, int totalVisits) {
+        int best = 0;
+        double bestBound = Double.NEGATIVE_INFINITY;
+        for (int option = 0; option < 2; option++) {
+            if (stats.visits[option] == 0) {
+                return option;
+            }
+            double mean = stats.rewards[option] / stats.visits[option];
+            double bound = mean + EXPLORATION * Math.sqrt(Math.log(totalVisits) / stats.visits[option]);
+            if (bound > bestBound) {
+                bestBound = bound;
+                best = option;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Score a rollout's final position for a player: 1 for a win, 0 for a loss, otherwise
+     * the player's share of everyone's net worth (cash plus the price of owned squares)
+     */
+    static double score(CompactGameState state, int seat) {
+        if (state.isGameOver()) {
+            return state.getWinner() == seat ? 1 : 0;
+        }
+        BoardLayout layout = state.getLayout();
+        long[] worth = new long[state.getPlayerCount()];
+        for (int player = 0; player < worth.length; player++) {
+            worth[player] = state.getCash(player);
+        }
+        for (int square = 0; square < layout.getSize(); square++) {
+            int owner = state.getOwner(square);
+            if (owner != CompactGameState.NO_OWNER) {
+                worth[owner] += layout.getPrice(square);
+            }
+        }
+        long total = 0;
+        for (long value : worth) {
+            total += value;
+        }
+        return total == 0 ? 0 : (double) worth[seat] / total;
+    }
+    
+    /**
+     * Rollout counts and summed scores per option
+     */
+    private static final class SearchStats {
+        final int[] visits = new int[2];
+        final double[] rewards = new double[2];
+        
+        SearchStats merge(SearchStats other) {
+            for (int option = 0; option < 2; option++) {
+                visits[option] += other.visits[option];
+                rewards[option] += other.rewards[option];
+            }
+            return this;
+        }
+    }
+    
+    /**
+     * Runs workers [from, to) by splitting the range, each worker with its own random stream
+     */
+    private class SearchTask extends RecursiveTask<SearchStats> {
+        private static final long serialVersionUID = 1L;
+        
+        private final CompactGameState[] options;
+        private final int seat;
+        private final int doublesRolled;
+        private final CardDeck cards;
+        private final long streamSeed;
+        private final long deadline;
+        private final int from;
+        private final int to;
+        
+        SearchTask(CompactGameState[] options, int seat, int doublesRolled, CardDeck cards, long streamSeed,
+                   long deadline, int from, int to) {
+            this.options = options;
+            this.seat = seat;
+            this.doublesRolled = doublesRolled;
+            this.cards = cards;
+            this.streamSeed = streamSeed;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected SearchStats compute() {
+            if (to - from == 1) {
+                int rollouts = rolloutsPerDecision / workers + (from < rolloutsPerDecision % workers ? 1 : 0);
+                return search(options, seat, doublesRolled, cards, GameRandom.forStream(streamSeed, from), deadline,
+                              rollouts);
+            }
+            
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(options, seat, doublesRolled, cards, streamSeed, deadline, from, middle);
+            left.fork();
+            SearchStats right = new SearchTask(options, seat, doublesRolled, cards, streamSeed, deadline, middle,
+                                                to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes a GameMetrics summary to a GameOutput from a background daemon
+ * thread, along with the number of turns played per second since the previous dump.
+ */
+public final class MetricsReporter implements AutoCloseable {
+    private final GameMetrics metrics;
+    private final GameOutput output;
+    private final ScheduledExecutorService scheduler;
+    private long lastTurns;
+    private long lastTime;
+    
+    private MetricsReporter(GameMetrics metrics, GameOutput output) {
+        this.metrics = metrics;
+        this.output = output;
+        this.lastTurns = metrics.getTurns();
+        this.lastTime = System.nanoTime();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Start dumping the metrics every interval until closed
+     */
+    public static MetricsReporter start(GameMetrics metrics, GameOutput output, Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        long nanos = interval.toNanos();
+        MetricsReporter reporter = new MetricsReporter(metrics, output);
+        reporter.scheduler.scheduleAtFixedRate(reporter::report, nanos, nanos, TimeUnit.NANOSECONDS);
+        return reporter;
+    }
+    
+    /**
+     * Write one summary now
+     */
+    public synchronized void report() {
+        long now = System.nanoTime();
+        long turns = metrics.getTurns();
+        double seconds = (now - lastTime) / 1e9;
+        output.println(String.format("%.0f turns/s, %s", seconds > 0 ? (turns - lastTurns) / seconds : 0.0,
+                                     metrics));
+        lastTurns = turns;
+        lastTime = now;
+    }
+    
+    /**
+     * Stop the periodic dumps
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -1,5 +1,12 @@
 package com.cfhayes.monopoly;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+
 /**
  * Main class for the Monopoly game application.
  * Manages the game flow and coordinates between different components.
@@ -8,10 +15,107 @@ public class Monopoly {
     private Game game;
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--simulate")) {
+            boolean withMetrics = Arrays.asList(args).contains("--metrics");
+            boolean withRoi = Arrays.asList(args).contains("--roi");
+            String[] options = Arrays.stream(args)
+                                     .filter(arg -> !arg.equals("--metrics") && !arg.equals("--roi"))
+                                     .toArray(String[]::new);
+            int games = options.length > 1 ? Integer.parseInt(options[1]) : 10000;
+            long seed = options.length > 2 ? Long.parseLong(options[2]) : System.nanoTime();
+            simulate(games, seed, withMetrics, withRoi);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--landing")) {
+            printLandingProbabilities();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+            return;
+        }
+        
         Monopoly monopoly = new Monopoly();
         monopoly.start();
     }
     
+    /**
+     * Play a batch of headless games on all cores and print the aggregate results
+     */
+    public static void simulate(int games, long seed) {
+        simulate(games, seed, false, false);
+    }
+    
+    /**
+     * Play a batch of headless games, optionally dumping turn and decision metrics every second
+     * and printing each property's return on investment at the end
+     */
+    public static void simulate(int games, long seed, boolean withMetrics, boolean withRoi) {
+        System.out.println("Simulating " + games + " games (seed " + seed + ")...");
+        SimulationRunner runner = new SimulationRunner(2, 1000, DecisionMaker.ALWAYS_BUY);
+        runner.setCollectPropertyAnalytics(withRoi);
+        GameMetrics metrics = withMetrics ? new GameMetrics() : GameMetrics.DISABLED;
+        runner.setMetrics(metrics);
+        
+        long startTime = System.nanoTime();
+        MetricsReporter reporter = withMetrics
+                                   ? MetricsReporter.start(metrics, GameOutput.CONSOLE, Duration.ofSeconds(1))
+                                   : null;
+        SimulationStats stats;
+        try {
+            stats = runner.run(games, seed);
+        } finally {
+            if (reporter != null) {
+                reporter.close();
+            }
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        
+        System.out.print(stats);
+        System.out.printf("Finished in %.2fs (%.0f turns/s)%n", seconds, stats.getTotalTurns() / seconds);
+        if (withMetrics) {
+            System.out.println(metrics);
+        }
+        if (withRoi) {
+            System.out.print(stats.getPropertyAnalytics());
+        }
+    }
+    
+    /**
+     * Print the long-run chance of ending a roll on each square, solved analytically
+     */
+    public static void printLandingProbabilities() {
+        BoardLayout layout = BoardLayout.standard();
+        long startTime = System.nanoTime();
+        MarkovAnalyzer analyzer = MarkovAnalyzer.standard();
+        double[] landing = analyzer.landingProbabilities();
+        double millis = (System.nanoTime() - startTime) / 1e6;
+        
+        for (int square = 0; square < layout.getSize(); square++) {
+            System.out.printf("%2d %-25s %6.3f%%%n", square, layout.getName(square), landing[square] * 100);
+        }
+        System.out.printf("In jail: %.3f%%%n", analyzer.inJailProbability() * 100);
+        System.out.printf("Solved in %.1fms (%d iterations)%n", millis, analyzer.getIterations());
+    }
+    
+    /**
+     * Host games over HTTP on localhost until the process is stopped
+     */
+    public static void serve(int port) {
+        try {
+            GameServer games = new GameServer();
+            GameApiServer api = new GameApiServer(games, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            api.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                api.close();
+                games.close();
+            }));
+            System.out.println("Serving games on http://localhost:" + api.getPort() + "/games");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot listen on port " + port, e);
+        }
+    }
+    
     public void start() {
         System.out.println("Welcome to Monopoly!");
         
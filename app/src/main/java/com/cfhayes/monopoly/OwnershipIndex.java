@@ -0,0 +1,82 @@
+package com.cfhayes.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * Running counts of what a player owns: railroads, utilities and properties per color group.
+ * Kept up to date as properties are added and removed, so queries never scan or allocate.
+ * Color groups are counted by the group index of the board layout the property belongs to.
+ */
+public class OwnershipIndex {
+    private int propertiesOwned;
+    private int railroadsOwned;
+    private int utilitiesOwned;
+    private int[] colorGroupCounts;
+    private BoardLayout layout;
+    
+    public OwnershipIndex() {
+        this.colorGroupCounts = new int[10];
+    }
+    
+    /**
+     * Record that a property was added
+     */
+    void add(Property property) {
+        update(property, 1);
+    }
+    
+    /**
+     * Record that a property was removed
+     */
+    void remove(Property property) {
+        update(property, -1);
+    }
+    
+    private void update(Property property, int delta) {
+        propertiesOwned += delta;
+        if (property.getType() == Property.PropertyType.RAILROAD) {
+            railroadsOwned += delta;
+        } else if (property.getType() == Property.PropertyType.UTILITY) {
+            utilitiesOwned += delta;
+        }
+        int group = property.getColorGroupIndex();
+        if (group >= 0) {
+            if (layout == null) {
+                layout = property.getLayout();
+            } else if (layout != property.getLayout()) {
+                throw new IllegalArgumentException("Properties from different boards cannot be owned together");
+            }
+            if (group >= colorGroupCounts.length) {
+                colorGroupCounts = Arrays.copyOf(colorGroupCounts, group + 1);
+            }
+            colorGroupCounts[group] += delta;
+        }
+    }
+    
+    public int getPropertiesOwned() {
+        return propertiesOwned;
+    }
+    
+    public int getRailroadsOwned() {
+        return railroadsOwned;
+    }
+    
+    public int getUtilitiesOwned() {
+        return utilitiesOwned;
+    }
+    
+    /**
+     * Get the layout whose color groups are counted (null until a property with a color group is added)
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+    
+    /**
+     * Get the number of properties owned in a color group, by the layout's group index
+     * (see Property.getColorGroupIndex())
+     */
+    public int getColorGroupCount(int colorGroupIndex) {
+        return colorGroupIndex < colorGroupCounts.length ? colorGroupCounts[colorGroupIndex] : 0;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.cfhayes.monopoly;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,6 +15,8 @@ public class Player {
     private List<Property> properties;
     private boolean inJail;
     private int jailTurns;
+    private int jailFreeCards;
+    private OwnershipIndex ownership;
     
     public Player(String name, int startingMoney) {
         this.name = name;
@@ -22,6 +25,7 @@ public class Player {
         this.properties = new ArrayList<>();
         this.inJail = false;
         this.jailTurns = 0;
+        this.ownership = new OwnershipIndex();
     }
     
     // Getters and Setters
@@ -60,12 +64,78 @@ public class Player {
         return new ArrayList<>(properties);
     }
     
+    /**
+     * Get a read-only view of the player's properties (no copy is made)
+     */
+    public List<Property> getOwnedProperties() {
+        return Collections.unmodifiableList(properties);
+    }
+    
+    /**
+     * Add a property to the player's holdings (adding one they already hold does nothing)
+     */
     public void addProperty(Property property) {
-        properties.add(property);
+        if (!properties.contains(property)) {
+            ownership.add(property);
+            properties.add(property);
+        }
     }
     
     public void removeProperty(Property property) {
-        properties.remove(property);
+        if (properties.remove(property)) {
+            ownership.remove(property);
+        }
+    }
+    
+    /**
+     * Get the running counts of what this player owns
+     */
+    public OwnershipIndex getOwnership() {
+        return ownership;
+    }
+    
+    /**
+     * Get the number of railroads this player owns
+     */
+    public int getRailroadsOwned() {
+        return ownership.getRailroadsOwned();
+    }
+    
+    /**
+     * Get the number of utilities this player owns
+     */
+    public int getUtilitiesOwned() {
+        return ownership.getUtilitiesOwned();
+    }
+    
+    /**
+     * Get the number of properties this player owns in a color group
+     */
+    public int getPropertiesOwnedInGroup(String colorGroup) {
+        BoardLayout layout = ownership.getLayout();
+        int group = layout == null ? -1 : layout.indexOfGroup(colorGroup);
+        return group >= 0 ? ownership.getColorGroupCount(group) : countOwnedByName(colorGroup);
+    }
+    
+    /**
+     * Get the number of properties this player owns in the color group of the given property
+     */
+    public int getPropertiesOwnedInGroup(Property property) {
+        int group = property.getColorGroupIndex();
+        return group >= 0 ? ownership.getColorGroupCount(group) : countOwnedByName(property.getColorGroup());
+    }
+    
+    /**
+     * Count owned properties by group name, only needed for groups the board layout does not know
+     */
+    private int countOwnedByName(String colorGroup) {
+        int count = 0;
+        for (int i = 0; i < properties.size(); i++) {
+            if (colorGroup.equals(properties.get(i).getColorGroup())) {
+                count++;
+            }
+        }
+        return count;
     }
     
     public boolean isInJail() {
@@ -87,6 +157,24 @@ public class Player {
         this.jailTurns++;
     }
     
+    /**
+     * Set the number of turns spent in jail (used when restoring a saved state)
+     */
+    void setJailTurns(int jailTurns) {
+        this.jailTurns = jailTurns;
+    }
+    
+    /**
+     * Get the number of Get Out of Jail Free cards the player holds
+     */
+    public int getJailFreeCards() {
+        return jailFreeCards;
+    }
+    
+    public void setJailFreeCards(int jailFreeCards) {
+        this.jailFreeCards = jailFreeCards;
+    }
+    
     /**
      * Check if player can afford a purchase
      */
@@ -98,9 +186,10 @@ public class Player {
      * Get total value of player's assets (money + property values)
      */
     public int getTotalAssets() {
-        int propertyValue = properties.stream()
-            .mapToInt(Property::getPrice)
-            .sum();
+        int propertyValue = 0;
+        for (int i = 0; i < properties.size(); i++) {
+            propertyValue += properties.get(i).getPrice();
+        }
         return money + propertyValue;
     }
     
@@ -113,7 +202,7 @@ public class Player {
     
     @Override
     public String toString() {
-        return String.format("Player{name='%s', money=%d, position=%d, properties=%d}", 
+        return String.format("Player{name='%s', money=%d, position=%d, properties=%d}",
                            name, money, position, properties.size());
     }
     
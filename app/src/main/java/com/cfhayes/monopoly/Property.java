@@ -12,13 +12,17 @@ public class Property extends BoardSpace {
     private String colorGroup;
     private int houses;
     private boolean hasHotel;
+    private RentTable rentTable;
+    private BoardLayout layout;
+    private int colorGroupIndex;
+    private int colorGroupSize;
     
     public enum PropertyType {
         REGULAR, RAILROAD, UTILITY
     }
     
     public Property(String name, int position, int price, int baseRent, PropertyType type, String colorGroup) {
-        super(name, position);
+        super(name, position, kindOf(type));
         this.price = price;
         this.baseRent = baseRent;
         this.type = type;
@@ -26,49 +30,50 @@ public class Property extends BoardSpace {
         this.owner = null;
         this.houses = 0;
         this.hasHotel = false;
+        this.rentTable = RentTable.of(type, baseRent);
+        this.layout = BoardLayout.standard();
+        this.colorGroupIndex = colorGroup == null ? -1 : layout.indexOfGroup(colorGroup);
+        this.colorGroupSize = colorGroup == null ? 0 : getPropertiesInColorGroup();
+    }
+    
+    private static SquareKind kindOf(PropertyType type) {
+        switch (type) {
+            case RAILROAD:
+                return SquareKind.RAILROAD;
+            case UTILITY:
+                return SquareKind.UTILITY;
+            default:
+                return SquareKind.PROPERTY;
+        }
     }
     
     @Override
-    public void handleLanding(Player player) {
-        if (owner == null) {
-            // Property is available for purchase
-            System.out.println(name + " is available for $" + price);
-        } else if (!owner.equals(player)) {
+    public void handleLanding(Player player, GameEventSink events) {
+        // Unowned properties are offered for purchase by the Game class
+        if (owner != null && !owner.equals(player)) {
             // Player must pay rent
             int rent = calculateRent();
             player.subtractMoney(rent);
             owner.addMoney(rent);
-            System.out.println("Paid $" + rent + " rent to " + owner.getName());
+            if (events.isEnabled()) {
+                events.accept(new GameEvent.RentPaid(player, owner, this, rent));
+            }
         }
     }
     
     /**
-     * Calculate rent based on property type and development
+     * Calculate rent based on property type and development.
+     * Rents come from the precomputed rent table and the owner's ownership counts.
      */
     public int calculateRent() {
         if (type == PropertyType.RAILROAD) {
             // Rent depends on number of railroads owned
-            long railroadsOwned = owner.getProperties().stream()
-                .filter(p -> p.getType() == PropertyType.RAILROAD)
-                .count();
-            return baseRent * (int) Math.pow(2, railroadsOwned - 1);
+            return rentTable.getRentForCount(owner.getRailroadsOwned());
         } else if (type == PropertyType.UTILITY) {
-            // Utility rent is typically based on dice roll (simplified here)
-            long utilitiesOwned = owner.getProperties().stream()
-                .filter(p -> p.getType() == PropertyType.UTILITY)
-                .count();
-            return utilitiesOwned == 1 ? 4 * 7 : 10 * 7; // Assuming average dice roll of 7
+            return rentTable.getRentForCount(owner.getUtilitiesOwned());
         } else {
             // Regular property
-            if (hasHotel) {
-                return baseRent * 32; // Hotel multiplier
-            } else if (houses > 0) {
-                return baseRent * (int) Math.pow(4, houses);
-            } else if (ownsMonopoly()) {
-                return baseRent * 2; // Double rent for monopoly
-            } else {
-                return baseRent;
-            }
+            return rentTable.getRent(RentTable.regularLevel(houses, hasHotel, ownsMonopoly()));
         }
     }
     
@@ -78,23 +83,34 @@ public class Property extends BoardSpace {
     private boolean ownsMonopoly() {
         if (colorGroup == null || owner == null) return false;
         
-        long propertiesInGroup = owner.getProperties().stream()
-            .filter(p -> colorGroup.equals(p.getColorGroup()))
-            .count();
-            
         // This is simplified - in a real game you'd check total properties in the color group
-        return propertiesInGroup >= getPropertiesInColorGroup();
+        return owner.getPropertiesOwnedInGroup(this) >= colorGroupSize;
+    }
+    
+    /**
+     * Set the number of properties in this color group (the board counts them once it is built)
+     */
+    void setColorGroupSize(int colorGroupSize) {
+        this.colorGroupSize = colorGroupSize;
     }
     
     /**
-     * Get number of properties in this color group (simplified)
+     * Place this property on a board with the given layout, which numbers its color group
+     */
+    void setLayout(BoardLayout layout) {
+        this.layout = layout;
+        this.colorGroupIndex = layout.getGroup(getPosition());
+    }
+    
+    /**
+     * Get the number of properties in a standard color group, until the board sets the real count
      */
     private int getPropertiesInColorGroup() {
         switch (colorGroup) {
             case "Brown":
-            case "Dark Blue": 
+            case "Dark Blue":
                 return 2;
-            default: 
+            default:
                 return 3;
         }
     }
@@ -116,8 +132,18 @@ public class Property extends BoardSpace {
         return owner;
     }
     
+    /**
+     * Set the owner, moving the property between the players' holdings
+     */
     public void setOwner(Player owner) {
+        if (owner != null) {
+            owner.addProperty(this);
+        }
+        Player previousOwner = this.owner;
         this.owner = owner;
+        if (previousOwner != null && previousOwner != owner) {
+            previousOwner.removeProperty(this);
+        }
     }
     
     public PropertyType getType() {
@@ -150,6 +176,29 @@ public class Property extends BoardSpace {
         }
     }
     
+    /**
+     * Get the precomputed rents for this property
+     */
+    public RentTable getRentTable() {
+        return rentTable;
+    }
+    
+    /**
+     * Get the index of this property's color group in its board's layout (the standard layout
+     * for properties created outside a board), or -1 if the layout has no such group
+     */
+    public int getColorGroupIndex() {
+        return colorGroupIndex;
+    }
+    
+    /**
+     * Get the layout of the board this property belongs to (the standard layout for
+     * properties created outside a board)
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+    
     public boolean isOwned() {
         return owner != null;
     }
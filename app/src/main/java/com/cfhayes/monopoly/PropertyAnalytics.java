@@ -0,0 +1,232 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming return-on-investment figures for every ownable square, fed by game events.
+ *
+ * Only running totals are kept, in one primitive array per counter, so any number of games
+ * can be analysed without storing them. Like SimulationStats, each worker fills its own
+ * instance (a sink is not thread-safe) and the instances are merged when the batch is done.
+ * Call finishGame after each game so the squares still owned are credited for their last turns.
+ */
+public class PropertyAnalytics implements GameEventSink {
+    private final BoardLayout layout;
+    private long games;
+    
+    // Running totals per square
+    private final long[] landings;
+    private final long[] purchases;
+    private final long[] purchaseCost;
+    private final long[] rentPayments;
+    private final long[] rentCollected;
+    private final long[] ownershipTurns;
+    
+    // State of the game in progress
+    private final int[] ownedSince;
+    private int turn;
+    private boolean gameInProgress;
+    
+    public PropertyAnalytics(BoardLayout layout) {
+        this.layout = layout;
+        int size = layout.getSize();
+        this.landings = new long[size];
+        this.purchases = new long[size];
+        this.purchaseCost = new long[size];
+        this.rentPayments = new long[size];
+        this.rentCollected = new long[size];
+        this.ownershipTurns = new long[size];
+        this.ownedSince = new int[size];
+        Arrays.fill(ownedSince, -1);
+    }
+    
+    @Override
+    public void accept(GameEvent event) {
+        if (event instanceof GameEvent.TurnStarted e) {
+            turn = e.turn();
+            gameInProgress = true;
+        } else if (event instanceof GameEvent.Landed e) {
+            landings[e.space().getPosition()]++;
+        } else if (event instanceof GameEvent.Purchased e) {
+            int square = e.property().getPosition();
+            purchases[square]++;
+            purchaseCost[square] += e.price();
+            ownedSince[square] = turn;
+        } else if (event instanceof GameEvent.RentPaid e) {
+            int square = e.property().getPosition();
+            rentPayments[square]++;
+            rentCollected[square] += e.amount();
+        } else if (event instanceof GameEvent.GameStarted) {
+            // In case the previous game was not finished explicitly
+            finishGame();
+        }
+    }
+    
+    /**
+     * Close the game in progress: every square still owned is credited with the turns since
+     * its purchase. Does nothing if no turn has been played since the last call.
+     */
+    public void finishGame() {
+        if (!gameInProgress) {
+            return;
+        }
+        for (int square = 0; square < ownedSince.length; square++) {
+            if (ownedSince[square] >= 0) {
+                ownershipTurns[square] += turn - ownedSince[square];
+                ownedSince[square] = -1;
+            }
+        }
+        games++;
+        turn = 0;
+        gameInProgress = false;
+    }
+    
+    /**
+     * Add the totals of another worker into this one (both must have finished their games)
+     */
+    public PropertyAnalytics merge(PropertyAnalytics other) {
+        if (other.layout.getSize() != layout.getSize()) {
+            throw new IllegalArgumentException("Cannot merge analytics for different boards");
+        }
+        finishGame();
+        other.finishGame();
+        games += other.games;
+        for (int square = 0; square < landings.length; square++) {
+            landings[square] += other.landings[square];
+            purchases[square] += other.purchases[square];
+            purchaseCost[square] += other.purchaseCost[square];
+            rentPayments[square] += other.rentPayments[square];
+            rentCollected[square] += other.rentCollected[square];
+            ownershipTurns[square] += other.ownershipTurns[square];
+        }
+        return this;
+    }
+    
+    public BoardLayout getLayout() {
+        return layout;
+    }
+    
+    public long getGames() {
+        return games;
+    }
+    
+    public long getLandings(int square) {
+        return landings[square];
+    }
+    
+    public long getPurchases(int square) {
+        return purchases[square];
+    }
+    
+    /**
+     * Get the total paid for a square over all its purchases
+     */
+    public long getPurchaseCost(int square) {
+        return purchaseCost[square];
+    }
+    
+    public long getRentPayments(int square) {
+        return rentPayments[square];
+    }
+    
+    public long getRentCollected(int square) {
+        return rentCollected[square];
+    }
+    
+    /**
+     * Get the number of turns (any player's) that a square spent owned, summed over all games
+     */
+    public long getOwnershipTurns(int square) {
+        return ownershipTurns[square];
+    }
+    
+    /**
+     * Get the rent a square earned for every turn it was owned
+     */
+    public double getRentPerOwnedTurn(int square) {
+        return ownershipTurns[square] == 0 ? 0 : (double) rentCollected[square] / ownershipTurns[square];
+    }
+    
+    /**
+     * Get the rent collected for every dollar paid for a square
+     */
+    public double getReturnOnInvestment(int square) {
+        return purchaseCost[square] == 0 ? 0 : (double) rentCollected[square] / purchaseCost[square];
+    }
+    
+    /**
+     * Get the expected number of turns for a square's rent to repay its average purchase price
+     * (infinite if it never earned rent)
+     */
+    public double getPaybackTurns(int square) {
+        return paybackTurns(purchaseCost[square], purchases[square], rentCollected[square], ownershipTurns[square]);
+    }
+    
+    private static double paybackTurns(long cost, long purchases, long rent, long turns) {
+        if (purchases == 0 || rent == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return ((double) cost / purchases) / ((double) rent / turns);
+    }
+    
+    /**
+     * Get the name of the group a square is reported under: its color group, Railroads or Utilities
+     */
+    private String groupName(int square) {
+        switch (layout.getKind(square)) {
+            case RAILROAD:
+                return "Railroads";
+            case UTILITY:
+                return "Utilities";
+            default:
+                return layout.getGroupName(layout.getGroup(square));
+        }
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("Property ROI over %d games (payback in turns)%n", games));
+        result.append(String.format("%-25s %9s %9s %12s %8s %10s%n",
+                                    "Square", "Landings", "Bought", "Rent", "ROI", "Payback"));
+        List<String> groups = new ArrayList<>();
+        for (int square = 0; square < layout.getSize(); square++) {
+            if (layout.isOwnable(square)) {
+                appendRow(result, layout.getName(square), landings[square], purchases[square], purchaseCost[square],
+                          rentCollected[square], ownershipTurns[square]);
+                if (!groups.contains(groupName(square))) {
+                    groups.add(groupName(square));
+                }
+            }
+        }
+        result.append(String.format("By group%n"));
+        for (String group : groups) {
+            long groupLandings = 0;
+            long groupPurchases = 0;
+            long groupCost = 0;
+            long groupRent = 0;
+            long groupTurns = 0;
+            for (int square = 0; square < layout.getSize(); square++) {
+                if (layout.isOwnable(square) && groupName(square).equals(group)) {
+                    groupLandings += landings[square];
+                    groupPurchases += purchases[square];
+                    groupCost += purchaseCost[square];
+                    groupRent += rentCollected[square];
+                    groupTurns += ownershipTurns[square];
+                }
+            }
+            appendRow(result, group, groupLandings, groupPurchases, groupCost, groupRent, groupTurns);
+        }
+        return result.toString();
+    }
+    
+    private static void appendRow(StringBuilder result, String name, long landings, long purchases, long cost,
+                                  long rent, long turns) {
+        double roi = cost == 0 ? 0 : (double) rent / cost;
+        double payback = paybackTurns(cost, purchases, rent, turns);
+        result.append(String.format("%-25s %9d %9d %12d %7.2fx %10s%n", name, landings, purchases, rent, roi,
+                                    Double.isInfinite(payback) ? "never" : String.format("%.1f", payback)));
+    }
+}
\ No newline at end of file
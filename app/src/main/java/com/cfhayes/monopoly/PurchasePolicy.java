@@ -0,0 +1,28 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Purchase (and jail) decisions for the compact engine, made directly from a CompactGameState.
+ */
+public interface PurchasePolicy {
+    /**
+     * Buys every property the player lands on (if they can afford it)
+     */
+    PurchasePolicy ALWAYS_BUY = (state, player, square) -> true;
+    
+    /**
+     * Never buys anything
+     */
+    PurchasePolicy NEVER_BUY = (state, player, square) -> false;
+    
+    /**
+     * Decide whether the player buys the unowned square they landed on
+     */
+    boolean shouldBuy(CompactGameState state, int player, int square);
+    
+    /**
+     * Decide whether a jailed player leaves jail before rolling (see DecisionMaker.shouldLeaveJail)
+     */
+    default boolean shouldLeaveJail(CompactGameState state, int player) {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.cfhayes.monopoly;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Takes a remote player's choices from a queue of commands.
+ * The game thread blocks until a matching command arrives; commands that do not fit the
+ * current question (say, BUY while a roll is awaited) are stale and discarded.
+ */
+public class QueueDecisionMaker implements DecisionMaker {
+    
+    /**
+     * ROLL also answers the jail question: a jailed player who rolls stays in and tries for doubles.
+     * LEAVE_JAIL gets out before rolling, with a Get Out of Jail Free card if the player holds one
+     * or else by paying the fine.
+     */
+    public enum Command {
+        ROLL, BUY, DECLINE, LEAVE_JAIL
+    }
+    
+    /**
+     * What the game is currently waiting for from this player
+     */
+    public enum Awaiting {
+        NOTHING, ROLL, PURCHASE, JAIL
+    }
+    
+    private final BlockingQueue<Command> commands = new LinkedBlockingQueue<>();
+    private volatile Awaiting awaiting = Awaiting.NOTHING;
+    private boolean rollTaken; // Only used on the game thread
+    
+    /**
+     * Queue a command from the player (safe to call from any thread)
+     */
+    public void submit(Command command) {
+        commands.add(command);
+    }
+    
+    public Awaiting getAwaiting() {
+        return awaiting;
+    }
+    
+    @Override
+    public void awaitRoll(Player player, Game game) {
+        if (rollTaken) {
+            // The player already rolled to answer the jail question
+            rollTaken = false;
+            return;
+        }
+        awaiting = Awaiting.ROLL;
+        try {
+            while (take() != Command.ROLL) {
+                // Stale purchase answer, wait for the roll
+            }
+        } finally {
+            awaiting = Awaiting.NOTHING;
+        }
+    }
+    
+    @Override
+    public boolean shouldBuyProperty(Player player, Property property, Game game) {
+        awaiting = Awaiting.PURCHASE;
+        try {
+            while (true) {
+                Command command = take();
+                if (command == Command.BUY) {
+                    return true;
+                } else if (command == Command.DECLINE) {
+                    return false;
+                }
+            }
+        } finally {
+            awaiting = Awaiting.NOTHING;
+        }
+    }
+    
+    @Override
+    public boolean shouldLeaveJail(Player player, Game game) {
+        awaiting = Awaiting.JAIL;
+        try {
+            while (true) {
+                Command command = take();
+                if (command == Command.LEAVE_JAIL) {
+                    return true;
+                } else if (command == Command.ROLL) {
+                    rollTaken = true;
+                    return false;
+                }
+            }
+        } finally {
+            awaiting = Awaiting.NOTHING;
+        }
+    }
+    
+    private Command take() {
+        try {
+            return commands.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a player command", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Passes decisions through to another decision maker and appends each one to a DecisionLog
+ */
+public class RecordingDecisionMaker implements DecisionMaker {
+    private final DecisionMaker delegate;
+    private final DecisionLog log;
+    
+    public RecordingDecisionMaker(DecisionMaker delegate, DecisionLog log) {
+        this.delegate = delegate;
+        this.log = log;
+    }
+    
+    @Override
+    public void awaitRoll(Player player, Game game) {
+        delegate.awaitRoll(player, game);
+    }
+    
+    @Override
+    public boolean shouldLeaveJail(Player player, Game game) {
+        boolean decision = delegate.shouldLeaveJail(player, game);
+        log.add(decision);
+        return decision;
+    }
+    
+    @Override
+    public boolean shouldBuyProperty(Player player, Property property, Game game) {
+        boolean decision = delegate.shouldBuyProperty(player, property, game);
+        log.add(decision);
+        return decision;
+    }
+}
\ No newline at end of file
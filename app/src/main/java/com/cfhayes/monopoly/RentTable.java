@@ -0,0 +1,81 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Precomputed rents for one property, indexed by rent level.
+ * Regular properties: 0 = unimproved, 1 = unimproved with a monopoly, 2-5 = one to four houses, 6 = hotel.
+ * Railroads and utilities: the number of that type owned by the same player, minus one.
+ */
+public final class RentTable {
+    /**
+     * Level of an unimproved property whose owner holds the whole color group
+     */
+    public static final int MONOPOLY = 1;
+    
+    /**
+     * Level of a property with a hotel
+     */
+    public static final int HOTEL = 6;
+    
+    private final int[] rents;
+    
+    private RentTable(int[] rents) {
+        this.rents = rents;
+    }
+    
+    /**
+     * Build the rent table for a property of the given type and base rent
+     */
+    public static RentTable of(Property.PropertyType type, int baseRent) {
+        switch (type) {
+            case RAILROAD:
+                // Rent doubles with every railroad owned
+                return new RentTable(new int[] { baseRent, baseRent * 2, baseRent * 4, baseRent * 8 });
+            case UTILITY:
+                // Utility rent is typically based on dice roll (simplified here)
+                return new RentTable(new int[] { 4 * 7, 10 * 7 }); // Assuming average dice roll of 7
+            default:
+                return new RentTable(new int[] {
+                    baseRent,
+                    baseRent * 2,       // Double rent for monopoly
+                    baseRent * 4,       // Each house multiplies rent by 4
+                    baseRent * 16,
+                    baseRent * 64,
+                    baseRent * 256,
+                    baseRent * 32       // Hotel multiplier
+                });
+        }
+    }
+    
+    /**
+     * Get the rent level of a regular property
+     */
+    public static int regularLevel(int houses, boolean hasHotel, boolean monopoly) {
+        if (hasHotel) {
+            return HOTEL;
+        } else if (houses > 0) {
+            return MONOPOLY + houses;
+        }
+        return monopoly ? MONOPOLY : 0;
+    }
+    
+    /**
+     * Get the rent for a railroad or utility when its owner holds count of that type
+     */
+    public int getRentForCount(int count) {
+        return rents[Math.max(0, Math.min(count, rents.length) - 1)];
+    }
+    
+    /**
+     * Get the rent at a level
+     */
+    public int getRent(int level) {
+        return rents[level];
+    }
+    
+    /**
+     * Get the number of levels in this table
+     */
+    public int getLevels() {
+        return rents.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-executes a recorded game through Game's rules at full speed.
+ *
+ * While playing forward a checkpoint is kept every checkpointInterval turns, so seeking
+ * to any turn only replays the turns since the nearest earlier checkpoint.
+ */
+public class Replay {
+    private final GameRecord record;
+    private final int checkpointInterval;
+    private final ReplayDecisionMaker decisionMaker;
+    private final Game game;
+    private final List<GameCheckpoint> checkpoints = new ArrayList<>();
+    private final List<Integer> decisionPositions = new ArrayList<>();
+    
+    public Replay(GameRecord record) {
+        this(record, 100, GameEventSink.NO_OP);
+    }
+    
+    public Replay(GameRecord record, int checkpointInterval, GameEventSink events) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+        }
+        this.record = record;
+        this.checkpointInterval = checkpointInterval;
+        this.decisionMaker = new ReplayDecisionMaker(record.getDecisions());
+        this.game = record.newReplayGame(decisionMaker, events);
+        saveCheckpoint();
+    }
+    
+    /**
+     * Put the game at the state after the given number of turns (or where it ended, if sooner).
+     * Returns the replayed game, which stays owned by this replay.
+     */
+    public Game seek(int turn) {
+        if (turn < 0) {
+            throw new IllegalArgumentException("Turn must not be negative");
+        }
+        int current = game.getTurnCount();
+        int nearest = Math.min(turn / checkpointInterval, checkpoints.size() - 1);
+        if (turn < current || nearest * checkpointInterval > current) {
+            checkpoints.get(nearest).restore(game);
+            decisionMaker.setPosition(decisionPositions.get(nearest));
+        }
+        playTo(turn);
+        return game;
+    }
+    
+    /**
+     * Replay until the game ends or maxTurns turns have been played in total
+     */
+    public Game playToEnd(int maxTurns) {
+        return seek(maxTurns);
+    }
+    
+    private void playTo(int turn) {
+        while (game.getTurnCount() < turn && !game.isGameOver()) {
+            int nextCheckpoint = (game.getTurnCount() / checkpointInterval + 1) * checkpointInterval;
+            int target = Math.min(turn, nextCheckpoint);
+            if (game.play(target - game.getTurnCount()) == 0) {
+                break;
+            }
+            if (game.getTurnCount() == nextCheckpoint && checkpoints.size() == nextCheckpoint / checkpointInterval) {
+                saveCheckpoint();
+            }
+        }
+    }
+    
+    private void saveCheckpoint() {
+        checkpoints.add(GameCheckpoint.capture(game));
+        decisionPositions.add(decisionMaker.getPosition());
+    }
+    
+    public Game getGame() {
+        return game;
+    }
+    
+    public GameRecord getRecord() {
+        return record;
+    }
+    
+    /**
+     * Get the number of checkpoints kept so far
+     */
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+}
\ No newline at end of file
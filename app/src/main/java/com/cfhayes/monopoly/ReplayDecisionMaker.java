@@ -0,0 +1,45 @@
+package com.cfhayes.monopoly;
+
+/**
+ * Answers every decision from a DecisionLog, in order.
+ * One instance serves all seats, since the log interleaves every player's decisions.
+ */
+public class ReplayDecisionMaker implements DecisionMaker {
+    private final DecisionLog log;
+    private int position;
+    
+    public ReplayDecisionMaker(DecisionLog log) {
+        this.log = log;
+    }
+    
+    @Override
+    public boolean shouldLeaveJail(Player player, Game game) {
+        return next();
+    }
+    
+    @Override
+    public boolean shouldBuyProperty(Player player, Property property, Game game) {
+        return next();
+    }
+    
+    private boolean next() {
+        if (position >= log.size()) {
+            throw new IllegalStateException("Decision log exhausted after " + log.size() + " decisions");
+        }
+        return log.get(position++);
+    }
+    
+    /**
+     * Get the index of the next decision to be replayed
+     */
+    public int getPosition() {
+        return position;
+    }
+    
+    public void setPosition(int position) {
+        if (position < 0 || position > log.size()) {
+            throw new IllegalArgumentException("Position must be between 0 and " + log.size());
+        }
+        this.position = position;
+    }
+}
\ No newline at end of file
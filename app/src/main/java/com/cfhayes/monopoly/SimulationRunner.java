@@ -0,0 +1,148 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many independent headless games in parallel and aggregates the results.
+ * Every game gets its own Board, Dice and CardDeck driven by random streams derived
+ * from the run seed and the game's index, so a run is reproducible no matter how the
+ * work is split between threads. Games roll BatchedDice, which generate their rolls in bulk.
+ */
+public class SimulationRunner {
+    /**
+     * Number of games a single fork-join task plays before it stops splitting
+     */
+    private static final int GAMES_PER_TASK = 32;
+    
+    private int playersPerGame;
+    private int maxTurns;
+    private DecisionMaker decisionMaker;
+    private ForkJoinPool pool;
+    private GameMetrics metrics = GameMetrics.DISABLED;
+    private boolean collectPropertyAnalytics;
+    private BoardLayout layout = BoardLayout.standard();
+    private List<Card> cards = CardDeck.getStandardCards();
+    
+    /**
+     * Create a runner that uses the common fork-join pool.
+     * The decision maker is shared by all games, so it must be thread-safe.
+     */
+    public SimulationRunner(int playersPerGame, int maxTurns, DecisionMaker decisionMaker) {
+        this(playersPerGame, maxTurns, decisionMaker, ForkJoinPool.commonPool());
+    }
+    
+    public SimulationRunner(int playersPerGame, int maxTurns, DecisionMaker decisionMaker, ForkJoinPool pool) {
+        if (playersPerGame < 2 || playersPerGame > 8) {
+            throw new IllegalArgumentException("Players per game must be between 2 and 8");
+        }
+        this.playersPerGame = playersPerGame;
+        this.maxTurns = maxTurns;
+        this.decisionMaker = decisionMaker;
+        this.pool = pool;
+    }
+    
+    /**
+     * Record every game's turns and decisions into the given metrics (shared by all worker threads)
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Choose whether to collect per-property ROI figures (off by default, as it turns on game events).
+     * Each worker fills its own PropertyAnalytics; the merged result is in SimulationStats.
+     */
+    public void setCollectPropertyAnalytics(boolean collectPropertyAnalytics) {
+        this.collectPropertyAnalytics = collectPropertyAnalytics;
+    }
+    
+    /**
+     * Play every game on the given board with the given cards (the standard board and cards by default)
+     */
+    public void setBoard(BoardLayout layout, List<Card> cards) {
+        this.layout = layout;
+        this.cards = List.copyOf(cards);
+    }
+    
+    /**
+     * Play the given number of games and return the merged statistics
+     */
+    public SimulationStats run(int games, long seed) {
+        return pool.invoke(new SimulationTask(seed, 0, games));
+    }
+    
+    /**
+     * Create a record that reproduces one game of a run when its decisions are recorded
+     * with this runner's decision maker
+     */
+    public GameRecord recordGame(long seed, int gameIndex) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= playersPerGame; i++) {
+            names.add("Player " + i);
+        }
+        return GameRecord.forStream(seed, gameIndex, true, layout, cards, names);
+    }
+    
+    /**
+     * Play a single game with the seeds derived for its index
+     */
+    public Game playGame(long seed, int gameIndex) {
+        return playGame(seed, gameIndex, GameEventSink.NO_OP);
+    }
+    
+    private Game playGame(long seed, int gameIndex, GameEventSink events) {
+        Game game = GameRecord.newStreamGame(seed, gameIndex, true, layout, cards, decisionMaker, events);
+        game.setMetrics(metrics);
+        for (int i = 1; i <= playersPerGame; i++) {
+            game.addPlayer("Player " + i);
+        }
+        game.play(maxTurns);
+        return game;
+    }
+    
+    /**
+     * Plays games [from, to) by splitting the range until it is small enough
+     */
+    private class SimulationTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+        
+        private final long seed;
+        private final int from;
+        private final int to;
+        
+        SimulationTask(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats(playersPerGame);
+                PropertyAnalytics analytics = null;
+                if (collectPropertyAnalytics) {
+                    analytics = new PropertyAnalytics(layout);
+                    stats.setPropertyAnalytics(analytics);
+                }
+                for (int i = from; i < to; i++) {
+                    Game game = playGame(seed, i, analytics == null ? GameEventSink.NO_OP : analytics);
+                    if (analytics != null) {
+                        analytics.finishGame();
+                    }
+                    stats.record(game, game.getTurnCount());
+                }
+                return stats;
+            }
+            
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(seed, from, middle);
+            left.fork();
+            SimulationStats right = new SimulationTask(seed, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.cfhayes.monopoly;
+
+import java.util.List;
+
+/**
+ * Aggregate results of many simulated games.
+ * Each worker fills its own instance and the results are merged at the end, so no locking is needed.
+ */
+public class SimulationStats {
+    private int playersPerGame;
+    private long games;
+    private long finishedGames;
+    private long totalTurns;
+    private int minTurns;
+    private int maxTurns;
+    private long[] wins;
+    private long[] totalFinalMoney;
+    private PropertyAnalytics propertyAnalytics;
+    
+    public SimulationStats(int playersPerGame) {
+        this.playersPerGame = playersPerGame;
+        this.minTurns = Integer.MAX_VALUE;
+        this.maxTurns = 0;
+        this.wins = new long[playersPerGame];
+        this.totalFinalMoney = new long[playersPerGame];
+    }
+    
+    /**
+     * Record the outcome of one game
+     */
+    public void record(Game game, int turns) {
+        games++;
+        totalTurns += turns;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+        
+        List<Player> players = game.getPlayers();
+        Player winner = game.getWinner();
+        if (game.isGameOver()) {
+            finishedGames++;
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            totalFinalMoney[seat] += player.getMoney();
+            if (player == winner) {
+                wins[seat]++;
+            }
+        }
+    }
+    
+    /**
+     * Add another set of results into this one
+     */
+    public SimulationStats merge(SimulationStats other) {
+        if (other.playersPerGame != playersPerGame) {
+            throw new IllegalArgumentException("Cannot merge results for different player counts");
+        }
+        games += other.games;
+        finishedGames += other.finishedGames;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int seat = 0; seat < playersPerGame; seat++) {
+            wins[seat] += other.wins[seat];
+            totalFinalMoney[seat] += other.totalFinalMoney[seat];
+        }
+        if (propertyAnalytics == null) {
+            propertyAnalytics = other.propertyAnalytics;
+        } else if (other.propertyAnalytics != null) {
+            propertyAnalytics.merge(other.propertyAnalytics);
+        }
+        return this;
+    }
+    
+    /**
+     * Get the per-property ROI figures, or null if they were not collected
+     */
+    public PropertyAnalytics getPropertyAnalytics() {
+        return propertyAnalytics;
+    }
+    
+    /**
+     * Attach the property analytics filled alongside these results (merged along with them)
+     */
+    public void setPropertyAnalytics(PropertyAnalytics propertyAnalytics) {
+        this.propertyAnalytics = propertyAnalytics;
+    }
+    
+    public int getPlayersPerGame() {
+        return playersPerGame;
+    }
+    
+    public long getGames() {
+        return games;
+    }
+    
+    /**
+     * Get the number of games that ended with at most one solvent player
+     */
+    public long getFinishedGames() {
+        return finishedGames;
+    }
+    
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+    
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+    
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+    
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+    
+    /**
+     * Get the number of games won by the player in the given seat
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+    
+    /**
+     * Get the fraction of all games won by the player in the given seat
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+    
+    /**
+     * Get the average money the player in the given seat ended with
+     */
+    public double getAverageFinalMoney(int seat) {
+        return games == 0 ? 0 : (double) totalFinalMoney[seat] / games;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("Games: %d (%d finished), turns avg %.1f min %d max %d%n",
+                                    games, finishedGames, getAverageTurns(), getMinTurns(), maxTurns));
+        for (int seat = 0; seat < playersPerGame; seat++) {
+            result.append(String.format("Seat %d: %d wins (%.1f%%), avg final money $%.0f%n",
+                                        seat + 1, wins[seat], getWinRate(seat) * 100, getAverageFinalMoney(seat)));
+        }
+        return result.toString();
+    }
+}
\ No newline at end of file
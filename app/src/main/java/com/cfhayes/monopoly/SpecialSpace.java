@@ -2,64 +2,88 @@ package com.cfhayes.monopoly;
 
 /**
  * Represents special board spaces like GO, Jail, Free Parking, taxes, and card spaces.
+ * What a space does is decided by its SquareKind and one amount: the bonus for landing on GO,
+ * the tax for tax squares, or the jail square that "Go to Jail" sends players to.
  */
 public class SpecialSpace extends BoardSpace {
+    private final int amount;
     
+    /**
+     * Create a special space of the standard board, recognized by its name
+     */
     public SpecialSpace(String name, int position) {
-        super(name, position);
+        this(name, position, SquareKind.ofName(name), standardAmount(SquareKind.ofName(name)));
+    }
+    
+    public SpecialSpace(String name, int position, SquareKind kind, int amount) {
+        super(name, position, kind);
+        if (kind.isOwnable()) {
+            throw new IllegalArgumentException(kind + " squares are properties, not special spaces");
+        }
+        this.amount = amount;
+    }
+    
+    /**
+     * Get the amount used by this space for the standard board
+     */
+    static int standardAmount(SquareKind kind) {
+        switch (kind) {
+            case GO:
+            case INCOME_TAX:
+                return 200;
+            case LUXURY_TAX:
+                return 100;
+            case GO_TO_JAIL:
+                return 10; // Jail position
+            default:
+                return 0;
+        }
+    }
+    
+    /**
+     * Get the landing bonus, tax or jail square of this space (0 if it has none)
+     */
+    public int getAmount() {
+        return amount;
     }
     
     @Override
-    public void handleLanding(Player player) {
-        switch (name.toLowerCase()) {
-            case "go":
-                // Collect $200 for landing on GO (in addition to passing GO)
-                player.addMoney(200);
-                System.out.println("Landed on GO! Collected $200");
+    public void handleLanding(Player player, GameEventSink events) {
+        switch (kind) {
+            case GO:
+                // Collect a bonus for landing on GO (in addition to passing GO)
+                player.addMoney(amount);
+                if (events.isEnabled()) {
+                    events.accept(new GameEvent.CashChanged(player, amount, "landed on GO", player.getMoney()));
+                }
                 break;
-                
-            case "income tax":
-                // Pay $200 income tax
-                player.subtractMoney(200);
-                System.out.println("Paid $200 income tax");
+            
+            case INCOME_TAX:
+            case LUXURY_TAX:
+                payTax(player, amount, events);
                 break;
-                
-            case "luxury tax":
-                // Pay $100 luxury tax  
-                player.subtractMoney(100);
-                System.out.println("Paid $100 luxury tax");
-                break;
-                
-            case "go to jail":
+            
+            case GO_TO_JAIL:
                 // Send player directly to jail
-                player.setPosition(10); // Jail position
+                player.setPosition(amount);
                 player.setInJail(true);
-                System.out.println("Go to Jail! Do not pass GO, do not collect $200");
-                break;
-                
-            case "jail":
-                // Just visiting jail - no action needed
-                System.out.println("Just visiting jail");
-                break;
-                
-            case "free parking":
-                // No action in standard rules
-                System.out.println("Free Parking - just relaxing!");
-                break;
-                
-            case "community chest":
-                // Card drawing will be handled by the Game class
-                System.out.println("Community Chest - draw a card!");
+                if (events.isEnabled()) {
+                    events.accept(new GameEvent.Jailed(player));
+                }
                 break;
-                
-            case "chance":
-                // Card drawing will be handled by the Game class
-                System.out.println("Chance - draw a card!");
-                break;
-                
+            
             default:
-                System.out.println("Landed on " + name);
+                // Jail (just visiting), Free Parking and card spaces need no action here;
+                // card drawing is handled by the Game class
                 break;
         }
     }
+    
+    private void payTax(Player player, int tax, GameEventSink events) {
+        int paid = Math.min(tax, player.getMoney());
+        player.subtractMoney(tax);
+        if (events.isEnabled()) {
+            events.accept(new GameEvent.CashChanged(player, -paid, name.toLowerCase(), player.getMoney()));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.cfhayes.monopoly;
+
+/**
+ * What kind of square a board position is, used for landing dispatch in both engines.
+ */
+public enum SquareKind {
+    PROPERTY,
+    RAILROAD,
+    UTILITY,
+    GO,
+    INCOME_TAX,
+    LUXURY_TAX,
+    JAIL,
+    GO_TO_JAIL,
+    FREE_PARKING,
+    CHANCE,
+    COMMUNITY_CHEST,
+    OTHER;
+    
+    /**
+     * Whether squares of this kind can be bought
+     */
+    public boolean isOwnable() {
+        return this == PROPERTY || this == RAILROAD || this == UTILITY;
+    }
+    
+    /**
+     * Get the kind of a board space
+     */
+    public static SquareKind of(BoardSpace space) {
+        return space.getKind();
+    }
+    
+    /**
+     * Classify a special space by its standard name (anything unknown is OTHER)
+     */
+    public static SquareKind ofName(String name) {
+        switch (name.toLowerCase()) {
+            case "go":
+                return GO;
+            case "income tax":
+                return INCOME_TAX;
+            case "luxury tax":
+                return LUXURY_TAX;
+            case "jail":
+                return JAIL;
+            case "go to jail":
+                return GO_TO_JAIL;
+            case "free parking":
+                return FREE_PARKING;
+            case "chance":
+                return CHANCE;
+            case "community chest":
+                return COMMUNITY_CHEST;
+            default:
+                return OTHER;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Pits purchase strategies against each other in many headless games.
+ *
+ * Games are played in rounds. Each round schedules tables of playersPerGame strategies,
+ * either every combination of strategies (round-robin) or strategies of similar standing
+ * (Swiss), and plays every table once per seat rotation so no strategy profits from
+ * moving first. The games of a round run in parallel on a fork-join pool. After each
+ * round the tournament stops early if the leader is significantly better than everyone else.
+ */
+public class Tournament {
+    /**
+     * How tables are put together each round
+     */
+    public enum Pairing {
+        ROUND_ROBIN, SWISS
+    }
+    
+    /**
+     * Minimum games each strategy plays before the tournament may stop early
+     */
+    private static final int MIN_APPEARANCES_BEFORE_STOPPING = 100;
+    
+    /**
+     * Number of games a single fork-join task plays before it stops splitting
+     */
+    private static final int GAMES_PER_TASK = 8;
+    
+    private int playersPerGame;
+    private int maxTurns;
+    private ForkJoinPool pool;
+    private List<String> names;
+    private List<DecisionMaker> strategies;
+    private boolean stopWhenSignificant;
+    
+    /**
+     * Create a tournament that uses the common fork-join pool
+     */
+    public Tournament(int playersPerGame, int maxTurns) {
+        this(playersPerGame, maxTurns, ForkJoinPool.commonPool());
+    }
+    
+    public Tournament(int playersPerGame, int maxTurns, ForkJoinPool pool) {
+        if (playersPerGame < 2 || playersPerGame > 8) {
+            throw new IllegalArgumentException("Players per game must be between 2 and 8");
+        }
+        this.playersPerGame = playersPerGame;
+        this.maxTurns = maxTurns;
+        this.pool = pool;
+        this.names = new ArrayList<>();
+        this.strategies = new ArrayList<>();
+        this.stopWhenSignificant = true;
+    }
+    
+    /**
+     * Enter a strategy. It plays in many games at once, so it must be thread-safe.
+     */
+    public void addStrategy(String name, DecisionMaker strategy) {
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("Duplicate strategy name: " + name);
+        }
+        names.add(name);
+        strategies.add(strategy);
+    }
+    
+    /**
+     * Choose whether to stop once the leader is significantly better (on by default)
+     */
+    public void setStopWhenSignificant(boolean stopWhenSignificant) {
+        this.stopWhenSignificant = stopWhenSignificant;
+    }
+    
+    /**
+     * Play rounds until about maxGames games have been played (whole rounds only, at least one)
+     * or the result is significant
+     */
+    public TournamentResult run(Pairing pairing, int maxGames, long seed) {
+        if (strategies.size() < 2) {
+            throw new IllegalStateException("At least 2 strategies required");
+        }
+        TournamentResult result = new TournamentResult(names);
+        int gameIndex = 0;
+        while (true) {
+            List<int[]> tables = pairing == Pairing.SWISS ? swissTables(result) : roundRobinTables();
+            List<int[]> games = withSeatRotations(tables);
+            result.merge(pool.invoke(new RoundTask(games, seed, gameIndex, 0, games.size())));
+            gameIndex += games.size();
+            
+            boolean significant = stopWhenSignificant && isSettled(result);
+            boolean budgetLeft = gameIndex + games.size() <= maxGames;
+            result.finishRound(significant && budgetLeft);
+            if (significant || !budgetLeft) {
+                return result;
+            }
+        }
+    }
+    
+    private boolean isSettled(TournamentResult result) {
+        for (int i = 0; i < result.getStrategyCount(); i++) {
+            if (result.getAppearances(i) < MIN_APPEARANCES_BEFORE_STOPPING) {
+                return false;
+            }
+        }
+        return result.isSignificant();
+    }
+    
+    /**
+     * Every combination of playersPerGame strategies, or (with fewer strategies than seats)
+     * the strategies repeated around a single table
+     */
+    List<int[]> roundRobinTables() {
+        List<int[]> tables = new ArrayList<>();
+        int count = strategies.size();
+        if (count < playersPerGame) {
+            int[] table = new int[playersPerGame];
+            for (int seat = 0; seat < playersPerGame; seat++) {
+                table[seat] = seat % count;
+            }
+            tables.add(table);
+            return tables;
+        }
+        
+        int[] combination = new int[playersPerGame];
+        for (int i = 0; i < playersPerGame; i++) {
+            combination[i] = i;
+        }
+        while (true) {
+            tables.add(combination.clone());
+            // Advance to the next combination in lexicographic order
+            int i = playersPerGame - 1;
+            while (i >= 0 && combination[i] == count - playersPerGame + i) {
+                i--;
+            }
+            if (i < 0) {
+                return tables;
+            }
+            combination[i]++;
+            for (int j = i + 1; j < playersPerGame; j++) {
+                combination[j] = combination[j - 1] + 1;
+            }
+        }
+    }
+    
+    /**
+     * Tables of strategies with neighbouring standings; a short last table is filled up
+     * with the strategies just above it
+     */
+    List<int[]> swissTables(TournamentResult result) {
+        List<Integer> ranking = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            ranking.add(i);
+        }
+        ranking.sort(Comparator.comparingDouble((Integer i) -> -result.getWinRate(i)).thenComparing(i -> i));
+        
+        List<int[]> tables = new ArrayList<>();
+        for (int start = 0; start < ranking.size(); start += playersPerGame) {
+            int[] table = new int[playersPerGame];
+            int first = Math.max(0, Math.min(start, ranking.size() - playersPerGame));
+            for (int seat = 0; seat < playersPerGame; seat++) {
+                table[seat] = ranking.get((first + seat) % ranking.size());
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+    
+    private List<int[]> withSeatRotations(List<int[]> tables) {
+        List<int[]> games = new ArrayList<>();
+        for (int[] table : tables) {
+            for (int rotation = 0; rotation < playersPerGame; rotation++) {
+                int[] seats = new int[playersPerGame];
+                for (int seat = 0; seat < playersPerGame; seat++) {
+                    seats[seat] = table[(seat + rotation) % playersPerGame];
+                }
+                games.add(seats);
+            }
+        }
+        return games;
+    }
+    
+    /**
+     * Play one game with the given strategies in seat order
+     */
+    Game playGame(int[] seats, long seed, int gameIndex) {
+        Game game = GameRecord.newStreamGame(seed, gameIndex, false, BoardLayout.standard(),
+                                             CardDeck.getStandardCards(), DecisionMaker.NEVER_BUY,
+                                             GameEventSink.NO_OP);
+        for (int seat = 0; seat < seats.length; seat++) {
+            game.addPlayer(names.get(seats[seat]) + " (seat " + (seat + 1) + ")", strategies.get(seats[seat]));
+        }
+        game.play(maxTurns);
+        return game;
+    }
+    
+    /**
+     * Get the seat that won a game. Games that reached the turn limit go to the player
+     * with the most assets (-1 on a tie).
+     */
+    static int winningSeat(Game game) {
+        List<Player> players = game.getPlayers();
+        if (game.isGameOver()) {
+            return players.indexOf(game.getWinner());
+        }
+        int best = -1;
+        int bestAssets = Integer.MIN_VALUE;
+        for (int seat = 0; seat < players.size(); seat++) {
+            int assets = players.get(seat).getTotalAssets();
+            if (assets > bestAssets) {
+                best = seat;
+                bestAssets = assets;
+            } else if (assets == bestAssets) {
+                best = -1;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Plays games [from, to) of a round by splitting the range until it is small enough
+     */
+    private class RoundTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+        
+        private final List<int[]> games;
+        private final long seed;
+        private final int firstGameIndex;
+        private final int from;
+        private final int to;
+        
+        RoundTask(List<int[]> games, long seed, int firstGameIndex, int from, int to) {
+            this.games = games;
+            this.seed = seed;
+            this.firstGameIndex = firstGameIndex;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                TournamentResult result = new TournamentResult(names);
+                for (int i = from; i < to; i++) {
+                    int[] seats = games.get(i);
+                    Game game = playGame(seats, seed, firstGameIndex + i);
+                    result.record(seats, winningSeat(game), game.isGameOver());
+                }
+                return result;
+            }
+            
+            int middle = (from + to) >>> 1;
+            RoundTask left = new RoundTask(games, seed, firstGameIndex, from, middle);
+            left.fork();
+            TournamentResult right = new RoundTask(games, seed, firstGameIndex, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
\ No newline at end of file
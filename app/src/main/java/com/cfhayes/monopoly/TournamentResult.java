@@ -0,0 +1,190 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Standings of a tournament: how often each strategy played and won.
+ * Each worker fills its own instance and the results are merged, like SimulationStats.
+ *
+ * Results are counted per seat: a strategy filling two seats of a game plays twice and
+ * wins at most once, so a strategy no better than its opponents wins 1 / playersPerGame.
+ */
+public class TournamentResult {
+    /**
+     * z-score for the reported 95% confidence intervals
+     */
+    public static final double Z_95 = 1.96;
+    
+    /**
+     * z-score used to call a result significant (99%); stricter than the reported intervals
+     * because the standings are checked again after every round
+     */
+    public static final double Z_99 = 2.576;
+    
+    private final List<String> names;
+    private final long[] appearances;
+    private final long[] wins;
+    private long games;
+    private long unfinishedGames;
+    private int rounds;
+    private boolean stoppedEarly;
+    
+    public TournamentResult(List<String> names) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.appearances = new long[names.size()];
+        this.wins = new long[names.size()];
+    }
+    
+    /**
+     * Record one game: the strategy in each seat and the winning seat (or -1 for no winner)
+     */
+    public void record(int[] seats, int winningSeat, boolean finished) {
+        games++;
+        if (!finished) {
+            unfinishedGames++;
+        }
+        for (int strategy : seats) {
+            appearances[strategy]++;
+        }
+        if (winningSeat >= 0) {
+            wins[seats[winningSeat]]++;
+        }
+    }
+    
+    /**
+     * Add another set of results into this one
+     */
+    public TournamentResult merge(TournamentResult other) {
+        if (!other.names.equals(names)) {
+            throw new IllegalArgumentException("Cannot merge results for different strategies");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            appearances[i] += other.appearances[i];
+            wins[i] += other.wins[i];
+        }
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        return this;
+    }
+    
+    void finishRound(boolean stoppedEarly) {
+        this.rounds++;
+        this.stoppedEarly = stoppedEarly;
+    }
+    
+    public int getStrategyCount() {
+        return names.size();
+    }
+    
+    public String getName(int strategy) {
+        return names.get(strategy);
+    }
+    
+    public long getAppearances(int strategy) {
+        return appearances[strategy];
+    }
+    
+    public long getWins(int strategy) {
+        return wins[strategy];
+    }
+    
+    public double getWinRate(int strategy) {
+        return appearances[strategy] == 0 ? 0 : (double) wins[strategy] / appearances[strategy];
+    }
+    
+    /**
+     * Get the 95% confidence interval for a strategy's win rate, as {low, high}
+     */
+    public double[] getConfidenceInterval(int strategy) {
+        return wilsonInterval(wins[strategy], appearances[strategy], Z_95);
+    }
+    
+    /**
+     * Get the strategy with the highest win rate
+     */
+    public int getLeader() {
+        int leader = 0;
+        for (int i = 1; i < names.size(); i++) {
+            if (getWinRate(i) > getWinRate(leader)) {
+                leader = i;
+            }
+        }
+        return leader;
+    }
+    
+    /**
+     * Check whether the leader is better than every other strategy with 99% confidence
+     * (its interval lies entirely above all the others)
+     */
+    public boolean isSignificant() {
+        int leader = getLeader();
+        double leaderLow = wilsonInterval(wins[leader], appearances[leader], Z_99)[0];
+        for (int i = 0; i < names.size(); i++) {
+            if (i != leader && wilsonInterval(wins[i], appearances[i], Z_99)[1] >= leaderLow) {
+                return false;
+            }
+        }
+        return names.size() > 1;
+    }
+    
+    public long getGames() {
+        return games;
+    }
+    
+    /**
+     * Get the number of games that reached the turn limit (won by the richest player)
+     */
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+    
+    public int getRounds() {
+        return rounds;
+    }
+    
+    /**
+     * Whether the tournament stopped before its game budget because the result was significant
+     */
+    public boolean isStoppedEarly() {
+        return stoppedEarly;
+    }
+    
+    /**
+     * Wilson score interval for a binomial proportion, as {low, high}
+     */
+    static double[] wilsonInterval(long successes, long trials, double z) {
+        if (trials == 0) {
+            return new double[] { 0, 1 };
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2 * trials)) / denominator;
+        double margin = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[] { Math.max(0, center - margin), Math.min(1, center + margin) };
+    }
+    
+    @Override
+    public String toString() {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> Double.compare(getWinRate(b), getWinRate(a)));
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d in %d rounds (%d hit the turn limit)%s%n", games, rounds, unfinishedGames,
+                                stoppedEarly ? ", stopped early" : ""));
+        for (int strategy : order) {
+            double[] interval = getConfidenceInterval(strategy);
+            sb.append(String.format("  %-20s %6.2f%% [%5.2f%%, %5.2f%%] (%d/%d)%n", names.get(strategy),
+                                    100 * getWinRate(strategy), 100 * interval[0], 100 * interval[1],
+                                    wins[strategy], appearances[strategy]));
+        }
+        sb.append(isSignificant() ? "Leader is significantly better" : "No significant leader");
+        sb.append(String.format("%n"));
+        return sb.toString();
+    }
+}
\ No newline at end of file
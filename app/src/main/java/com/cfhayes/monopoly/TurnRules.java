@@ -0,0 +1,68 @@
+package com.cfhayes.monopoly;
+
+/**
+ * The doubles and jail rules as a small state machine shared by Game and CompactEngine.
+ * Its state is just the player's jail flag and jail turns and the dice's doubles streak,
+ * so deciding what a roll does never creates an object.
+ */
+final class TurnRules {
+    /**
+     * Fine for leaving jail without rolling doubles
+     */
+    static final int JAIL_FINE = 50;
+    
+    /**
+     * Turns a player may try to roll doubles in jail before the fine is due
+     */
+    static final int MAX_JAIL_TURNS = 3;
+    
+    /**
+     * Doubles in a row that send a player to jail
+     */
+    static final int MAX_DOUBLES = 3;
+    
+    /**
+     * What a player does after a roll
+     */
+    enum RollOutcome {
+        /** Move by the roll; the turn ends */
+        MOVE,
+        /** Doubles: move by the roll, then roll again */
+        MOVE_AND_ROLL_AGAIN,
+        /** Third doubles in a row: go straight to jail without moving */
+        SPEEDING,
+        /** No doubles while in jail: stay there; the turn ends */
+        STAY_IN_JAIL,
+        /** Doubles while in jail: leave and move by the roll, without rolling again */
+        LEAVE_JAIL,
+        /** No doubles on the last turn in jail: pay the fine, then move by the roll */
+        PAY_AND_LEAVE_JAIL
+    }
+    
+    private TurnRules() {
+    }
+    
+    /**
+     * Decide what a roll does, given the roller's jail state and the dice's doubles streak
+     */
+    static RollOutcome afterRoll(boolean inJail, int jailTurns, boolean doubles, int doublesCount) {
+        if (inJail) {
+            if (doubles) {
+                return RollOutcome.LEAVE_JAIL;
+            }
+            return jailTurns + 1 >= MAX_JAIL_TURNS ? RollOutcome.PAY_AND_LEAVE_JAIL : RollOutcome.STAY_IN_JAIL;
+        }
+        if (!doubles) {
+            return RollOutcome.MOVE;
+        }
+        return doublesCount >= MAX_DOUBLES ? RollOutcome.SPEEDING : RollOutcome.MOVE_AND_ROLL_AGAIN;
+    }
+    
+    /**
+     * Check whether a player who rolled doubles gets another roll: not if the move
+     * sent them to jail or left them without money
+     */
+    static boolean mayRollAgain(boolean inJail, int cash) {
+        return !inJail && cash > 0;
+    }
+}
\ No newline at end of file
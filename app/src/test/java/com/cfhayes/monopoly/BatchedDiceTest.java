@@ -0,0 +1,92 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchedDiceTest {
+    
+    @Test
+    void testRollsAreUniform() {
+        for (int batchSize : new int[] { 1, 7, BatchedDice.DEFAULT_BATCH_SIZE }) {
+            Dice dice = new BatchedDice(new GameRandom(5), batchSize);
+            int rolls = 360_000;
+            int[] counts = new int[36];
+            for (int i = 0; i < rolls; i++) {
+                int total = dice.roll();
+                assertEquals(dice.getDie1() + dice.getDie2(), total);
+                counts[(dice.getDie1() - 1) * 6 + dice.getDie2() - 1]++;
+            }
+            
+            // Chi-squared with 35 degrees of freedom; 66.6 is the 0.1% critical value
+            double expected = rolls / 36.0;
+            double chiSquared = 0;
+            for (int count : counts) {
+                chiSquared += (count - expected) * (count - expected) / expected;
+            }
+            assertTrue(chiSquared < 66.6, "Batch size " + batchSize + " chi-squared " + chiSquared);
+        }
+    }
+    
+    @Test
+    void testTracksDoublesLikeDice() {
+        Dice dice = new BatchedDice(new GameRandom(11));
+        int streak = 0;
+        for (int i = 0; i < 10_000; i++) {
+            dice.roll();
+            streak = dice.isDoubles() ? streak + 1 : 0;
+            assertEquals(streak, dice.getDoublesCount());
+            assertEquals(streak >= 3, dice.shouldGoToJail());
+        }
+    }
+    
+    @Test
+    void testSameSeedGivesSameRolls() {
+        Dice first = new BatchedDice(new GameRandom(99), 10);
+        Dice second = new BatchedDice(new GameRandom(99), 10);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.roll(), second.roll());
+            assertEquals(first.getDie1(), second.getDie1());
+        }
+    }
+    
+    @Test
+    void testTableMode() {
+        BatchedDice dice = new BatchedDice(new GameRandom(1), 1);
+        assertEquals(1, dice.getBatchSize());
+        assertThrows(IllegalArgumentException.class, () -> new BatchedDice(new GameRandom(1), 0));
+    }
+    
+    @Test
+    void testCheckpointKeepsBufferedRolls() {
+        for (int batchSize : new int[] { 1, 7, BatchedDice.DEFAULT_BATCH_SIZE }) {
+            Game game = new Game(new BatchedDice(new GameRandom(3), batchSize), new CardDeck(3),
+                                 DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.play(33);
+            GameCheckpoint checkpoint = GameCheckpoint.capture(game);
+            Game copy = GameCheckpoint.fromByteArray(checkpoint.toByteArray())
+                                      .newGame(DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+            
+            game.play(100);
+            String after = CompactGameState.of(game).toString();
+            copy.play(100);
+            assertEquals(after, CompactGameState.of(copy).toString());
+            checkpoint.restore(game);
+            game.play(100);
+            assertEquals(after, CompactGameState.of(game).toString());
+        }
+    }
+    
+    @Test
+    void testRejectsInvalidBuffers() {
+        BatchedDice dice = new BatchedDice(new GameRandom(1), 4);
+        assertThrows(IllegalArgumentException.class, () -> dice.restoreBuffer(new byte[3], 0));
+        assertThrows(IllegalArgumentException.class, () -> dice.restoreBuffer(new byte[4], 5));
+        assertThrows(IllegalArgumentException.class, () -> dice.restoreBuffer(new byte[] { 0, 1, 36, 2 }, 0));
+        dice.restoreBuffer(new byte[] { 0, 7, 35, 2 }, 2);
+        dice.roll();
+        assertEquals(6, dice.getDie1());
+        assertEquals(6, dice.getDie2());
+    }
+}
\ No newline at end of file
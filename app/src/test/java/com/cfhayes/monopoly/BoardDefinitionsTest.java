@@ -0,0 +1,163 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardDefinitionsTest {
+    private static final String SMALL_BOARD =
+        "# A 12-square house-rules board\n"
+        + "GO           | Start          | 100\n"
+        + "PROPERTY     | Elm Street     | 60  | 4  | Green\n"
+        + "CHANCE       | Chance\n"
+        + "PROPERTY     | Oak Street     | 80  | 6  | Green\n"
+        + "RAILROAD     | Ferry          | 150 | 20\n"
+        + "INCOME_TAX   | Toll Bridge    | 75\n"
+        + "\n"
+        + "JAIL         | Lockup\n"
+        + "PROPERTY     | Pine Street    | 120 | 10 | Blue\n"
+        + "UTILITY      | Power Plant    | 100\n"
+        + "PROPERTY     | Cedar Street   | 140 | 12 | Blue\n"
+        + "GO_TO_JAIL   | Arrested\n"
+        + "COMMUNITY_CHEST | Town Hall\n";
+    
+    @Test
+    void testLoadsStandardBoard() {
+        BoardLayout layout = BoardDefinitions.standard();
+        
+        assertEquals(40, layout.getSize());
+        assertEquals(10, layout.getJailPosition());
+        assertEquals(SquareKind.GO, layout.getKind(0));
+        assertEquals(200, layout.getAmount(0));
+        assertEquals(200, layout.getGoSalary());
+        assertEquals(SquareKind.LUXURY_TAX, layout.getKind(38));
+        assertEquals(100, layout.getAmount(38));
+        assertEquals("Illinois Avenue", layout.getName(24));
+        assertEquals(240, layout.getPrice(24));
+        assertEquals(20, layout.getBaseRent(24));
+        assertEquals(SquareKind.RAILROAD, layout.getKind(25));
+        assertEquals(SquareKind.UTILITY, layout.getKind(28));
+        assertEquals(8, layout.getGroupCount());
+    }
+    
+    @Test
+    void testParsesCustomBoard() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(SMALL_BOARD));
+        
+        assertEquals(12, layout.getSize());
+        assertEquals(6, layout.getJailPosition());
+        assertEquals(100, layout.getAmount(0));
+        assertEquals(100, layout.getGoSalary());
+        assertEquals(75, layout.getAmount(5));
+        assertEquals(2, layout.getGroupCount());
+        assertEquals("Blue", layout.getGroupName(layout.getGroup(9)));
+        assertEquals(2, layout.getGroupSize(layout.getGroup(9)));
+        
+        Board board = new Board(layout);
+        assertEquals(12, board.getSize());
+        assertEquals(SquareKind.COMMUNITY_CHEST, board.getSpace(11).getKind());
+        assertEquals(2, board.getColorGroupSize("Green"));
+        assertSame(layout, BoardLayout.of(board));
+    }
+    
+    @Test
+    void testCustomBoardRules() throws IOException {
+        Board board = new Board(BoardDefinitions.read(new StringReader(SMALL_BOARD)));
+        Player player = new Player("Alice", 1500);
+        
+        SpecialSpace arrested = (SpecialSpace) board.getSpace(10);
+        arrested.handleLanding(player, GameEventSink.NO_OP);
+        assertEquals(6, player.getPosition());
+        assertTrue(player.isInJail());
+        
+        board.getSpace(5).handleLanding(player, GameEventSink.NO_OP);
+        assertEquals(1425, player.getMoney());
+        
+        // Owning both streets of a two-street group is a monopoly
+        Property elm = (Property) board.getSpace(1);
+        Property oak = (Property) board.getSpace(3);
+        elm.setOwner(player);
+        player.addProperty(elm);
+        assertEquals(4, elm.getRent());
+        oak.setOwner(player);
+        player.addProperty(oak);
+        assertEquals(8, elm.getRent());
+    }
+    
+    @Test
+    void testEnginesAgreeOnCustomBoard() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(SMALL_BOARD));
+        List<Card> cards = List.of(
+            Card.of("Bank error", Card.CardType.CHANCE, CardEffect.MONEY, 50, 0),
+            Card.of("Go to jail", Card.CardType.CHANCE, CardEffect.GO_TO_JAIL, 0, 0),
+            Card.of("Go back three", Card.CardType.CHANCE, CardEffect.GO_BACK, 3, 0),
+            Card.of("Take the ferry", Card.CardType.COMMUNITY_CHEST, CardEffect.ADVANCE, 4, 1),
+            Card.of("Birthday", Card.CardType.COMMUNITY_CHEST, CardEffect.COLLECT_FROM_EACH_PLAYER, 10, 0));
+        for (long seed = 1; seed <= 20; seed++) {
+            Game game = new Game(new Dice(seed), new CardDeck(new GameRandom(seed), cards), DecisionMaker.ALWAYS_BUY,
+                                 GameEventSink.NO_OP, new Board(layout));
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            int gameTurns = game.play(200);
+            
+            CompactGameState state = new CompactGameState(layout, 2, 1500);
+            CompactEngine engine = new CompactEngine(new Dice(seed), new CardDeck(new GameRandom(seed), cards),
+                                                     PurchasePolicy.ALWAYS_BUY);
+            assertEquals(gameTurns, engine.play(state, 200), "Turns differ for seed " + seed);
+            
+            CompactGameState expected = CompactGameState.of(game);
+            for (int player = 0; player < 2; player++) {
+                assertEquals(expected.getCash(player), state.getCash(player), "Cash differs for seed " + seed);
+                assertEquals(expected.getPosition(player), state.getPosition(player), "Position differs for seed " + seed);
+            }
+            for (int square = 0; square < layout.getSize(); square++) {
+                assertEquals(expected.getOwner(square), state.getOwner(square), "Owner differs for seed " + seed);
+            }
+        }
+    }
+    
+    @Test
+    void testCustomGoSalary() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(SMALL_BOARD));
+        List<Card> cards = List.of(
+            Card.of("Advance to Start", Card.CardType.CHANCE, CardEffect.ADVANCE_TO_GO, 0, 0),
+            Card.of("Birthday", Card.CardType.COMMUNITY_CHEST, CardEffect.COLLECT_FROM_EACH_PLAYER, 10, 0));
+        Game game = new Game(new Dice(1), new CardDeck(new GameRandom(1), cards), DecisionMaker.NEVER_BUY,
+                             GameEventSink.NO_OP, new Board(layout));
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        Player alice = game.getPlayers().get(0);
+        
+        game.applyCard(alice, cards.get(0));
+        assertEquals(0, alice.getPosition());
+        assertEquals(1600, alice.getMoney());
+    }
+    
+    @Test
+    void testGameRejectsCardsOffTheBoard() throws IOException {
+        Board board = new Board(BoardDefinitions.read(new StringReader(SMALL_BOARD)));
+        
+        // The standard deck advances to Boardwalk, square 39
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> new Game(new Dice(1), new CardDeck(1), DecisionMaker.NEVER_BUY, GameEventSink.NO_OP, board));
+        assertTrue(error.getMessage().contains("12 squares"), error.getMessage());
+    }
+    
+    @Test
+    void testReportsBadLines() {
+        IllegalArgumentException missingGroup = assertThrows(IllegalArgumentException.class,
+            () -> BoardDefinitions.read(new StringReader("GO | Start | 200\nPROPERTY | Elm Street | 60 | 4\n")));
+        assertTrue(missingGroup.getMessage().startsWith("Line 2:"));
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> BoardDefinitions.read(new StringReader("CASTLE | Keep\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> BoardDefinitions.read(new StringReader("RAILROAD | Ferry | cheap | 20\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> BoardDefinitions.read(new StringReader("GO | Start | 200\nGO_TO_JAIL | Arrested\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> BoardDefinitions.read(new StringReader("# nothing here\n")));
+    }
+}
\ No newline at end of file
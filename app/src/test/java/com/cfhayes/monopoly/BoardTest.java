@@ -3,6 +3,8 @@ package com.cfhayes.monopoly;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
 
 class BoardTest {
@@ -159,6 +161,22 @@ class BoardTest {
         assertTrue(nonExistent.isEmpty());
     }
     
+    @Test
+    void testColorGroupIndex() {
+        assertEquals(2, board.getColorGroupSize("Brown"));
+        assertEquals(3, board.getColorGroupSize("Green"));
+        assertEquals(4, board.getColorGroupSize("Railroad"));
+        assertEquals(0, board.getColorGroupSize("Purple"));
+        
+        // The view is the index's own read-only list; getPropertiesByColorGroup still returns a copy
+        List<Property> green = board.getColorGroupView("Green");
+        assertSame(green, board.getColorGroupView("Green"));
+        assertThrows(UnsupportedOperationException.class, () -> green.clear());
+        List<Property> copy = board.getPropertiesByColorGroup("Green");
+        copy.clear();
+        assertEquals(3, board.getColorGroupSize("Green"));
+    }
+    
     @Test
     void testSpecialSpaces() {
         // Test tax spaces
@@ -230,4 +248,46 @@ class BoardTest {
         assertEquals(2, utilities.size());
         assertTrue(utilities.stream().allMatch(p -> p.getPrice() == 150));
     }
+    
+    @Test
+    void testColorGroupsComeFromTheLayout() throws IOException {
+        // Green is the first group here but the sixth on the standard board
+        BoardLayout layout = BoardDefinitions.read(new StringReader(
+            "GO | Start | 200\n"
+            + "PROPERTY | Elm Street | 60 | 4 | Green\n"
+            + "PROPERTY | Oak Street | 80 | 6 | Green\n"
+            + "PROPERTY | Pine Street | 120 | 10 | Teal\n"));
+        Board custom = new Board(layout);
+        Property elm = (Property) custom.getSpace(1);
+        Property oak = (Property) custom.getSpace(2);
+        Property pine = (Property) custom.getSpace(3);
+        assertEquals(layout.getGroup(1), elm.getColorGroupIndex());
+        assertEquals(layout.getGroup(3), pine.getColorGroupIndex());
+        
+        assertSame(layout, elm.getLayout());
+        
+        Player player = new Player("Alice", 1500);
+        elm.setOwner(player);
+        assertEquals(4, elm.getRent());
+        oak.setOwner(player);
+        assertEquals(8, elm.getRent());
+        assertEquals(2, player.getPropertiesOwnedInGroup("Green"));
+        assertEquals(2, player.getPropertiesOwnedInGroup(elm));
+        assertEquals(2, player.getOwnership().getColorGroupCount(elm.getColorGroupIndex()));
+        pine.setOwner(player);
+        assertEquals(20, pine.getRent());
+        
+        // Streets of another board never count towards this board's groups
+        Property pacific = (Property) board.getSpace(31);
+        assertThrows(IllegalArgumentException.class, () -> pacific.setOwner(player));
+        assertNull(pacific.getOwner());
+        assertEquals(3, player.getProperties().size());
+        
+        // Outside a board, groups the standard layout does not know are counted by name
+        Property teal = new Property("Teal Street", 3, 120, 10, Property.PropertyType.REGULAR, "Teal");
+        assertEquals(-1, teal.getColorGroupIndex());
+        teal.setOwner(player);
+        assertEquals(1, player.getPropertiesOwnedInGroup("Teal"));
+        assertEquals(10, teal.getRent());
+    }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package com.cfhayes.monopoly;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 class CardDeckTest {
     
@@ -77,6 +80,42 @@ class CardDeckTest {
         assertTrue(cardDeck.getCommunityChestCardsRemaining() > 0);
     }
     
+    @Test
+    void testEachCycleDrawsEveryCardOnce() {
+        int deckSize = CardDeck.getChanceCards().size();
+        
+        for (int cycle = 0; cycle < 3; cycle++) {
+            Set<Card> drawn = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < deckSize; i++) {
+                drawn.add(cardDeck.drawChanceCard());
+            }
+            assertEquals(deckSize, drawn.size(), "Every card should be drawn once per cycle");
+            
+            // Reshuffling reuses the same card objects instead of creating new ones
+            for (Card card : drawn) {
+                assertTrue(CardDeck.getChanceCards().stream().anyMatch(c -> c == card));
+            }
+        }
+    }
+    
+    @Test
+    void testCardListsAreReadOnly() {
+        assertEquals(13, CardDeck.getChanceCards().size());
+        assertEquals(12, CardDeck.getCommunityChestCards().size());
+        assertThrows(UnsupportedOperationException.class, () -> CardDeck.getChanceCards().clear());
+    }
+    
+    @Test
+    void testSameSeedDrawsSameCards() {
+        CardDeck deck1 = new CardDeck(2024);
+        CardDeck deck2 = new CardDeck(2024);
+        
+        for (int i = 0; i < 40; i++) {
+            assertSame(deck1.drawChanceCard(), deck2.drawChanceCard());
+            assertSame(deck1.drawCommunityChestCard(), deck2.drawCommunityChestCard());
+        }
+    }
+    
     @Test
     void testDifferentCardTypes() {
         // Test that we get different types of cards
@@ -0,0 +1,88 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardDefinitionsTest {
+    
+    @Test
+    void testLoadsStandardCards() {
+        List<Card> cards = CardDefinitions.standard();
+        
+        assertEquals(25, cards.size());
+        assertEquals(13, CardDeck.getChanceCards().size());
+        assertEquals(12, CardDeck.getCommunityChestCards().size());
+        
+        Card illinois = CardDeck.getChanceCards().get(5);
+        assertInstanceOf(MovementCard.class, illinois);
+        assertEquals("Advance to Illinois Avenue", illinois.getDescription());
+        assertEquals(CardEffect.ADVANCE, illinois.getEffect());
+        assertEquals(24, ((MovementCard) illinois).getTargetPosition());
+        assertTrue(((MovementCard) illinois).shouldCollectGoMoney());
+        
+        Card repairs = CardDeck.getChanceCards().get(12);
+        assertEquals(ActionCard.ActionType.REPAIRS, ((ActionCard) repairs).getActionType());
+        assertEquals(100, repairs.getOperand1());
+    }
+    
+    @Test
+    void testParsesCustomDeck() throws IOException {
+        List<Card> cards = CardDefinitions.read(new StringReader(
+            "# A tiny house-rules deck\n"
+            + "\n"
+            + "CHANCE  GO_BACK  5  Go back five spaces\n"
+            + "COMMUNITY_CHEST  PAY_EACH_PLAYER  10  Birthday presents - pay $10 to each player\n"));
+        
+        assertEquals(2, cards.size());
+        assertEquals(CardEffect.GO_BACK, cards.get(0).getEffect());
+        assertEquals(5, cards.get(0).getOperand1());
+        assertEquals("Go back five spaces", cards.get(0).getDescription());
+        assertEquals(Card.CardType.COMMUNITY_CHEST, cards.get(1).getType());
+        assertEquals("Birthday presents - pay $10 to each player", cards.get(1).getDescription());
+    }
+    
+    @Test
+    void testReportsBadLines() {
+        IllegalArgumentException missingOperand = assertThrows(IllegalArgumentException.class,
+            () -> CardDefinitions.read(new StringReader("CHANCE MONEY 50 Dividend\nCHANCE ADVANCE 24 Illinois\n")));
+        assertTrue(missingOperand.getMessage().startsWith("Line 2:"));
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> CardDefinitions.read(new StringReader("CHANCE TELEPORT Anywhere\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> CardDefinitions.read(new StringReader("CHANCE MONEY fifty Dividend\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> CardDefinitions.read(new StringReader("CHANCE GO_TO_JAIL\n")));
+    }
+    
+    @Test
+    void testCustomDeckPlaysTheSameInBothEngines() throws IOException {
+        List<Card> cards = CardDefinitions.read(new StringReader(
+            "CHANCE  GO_BACK  5  Go back five spaces\n"
+            + "CHANCE  PAY_EACH_PLAYER  10  Pay $10 to each player\n"
+            + "CHANCE  ADVANCE  11 0  Advance to St. Charles Place\n"
+            + "COMMUNITY_CHEST  COLLECT_FROM_EACH_PLAYER  25  Collect $25 from each player\n"
+            + "COMMUNITY_CHEST  MONEY  -75  Pay $75\n"));
+        for (long seed = 1; seed <= 10; seed++) {
+            Game game = new Game(new Dice(seed), new CardDeck(new GameRandom(seed), cards), DecisionMaker.ALWAYS_BUY,
+                                 GameEventSink.NO_OP);
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.play(200);
+            
+            CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1500);
+            new CompactEngine(new Dice(seed), new CardDeck(new GameRandom(seed), cards), PurchasePolicy.ALWAYS_BUY)
+                .play(state, 200);
+            
+            CompactGameState expected = CompactGameState.of(game);
+            for (int player = 0; player < 2; player++) {
+                assertEquals(expected.getCash(player), state.getCash(player), "Cash differs for seed " + seed);
+                assertEquals(expected.getPosition(player), state.getPosition(player),
+                             "Position differs for seed " + seed);
+            }
+        }
+    }
+}
\ No newline at end of file
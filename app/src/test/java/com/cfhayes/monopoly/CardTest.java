@@ -112,8 +112,9 @@ class CardTest {
         int initialMoney = player.getMoney();
         card.execute(player, game);
         
-        // For now, it gives $50 equivalent
-        assertEquals(initialMoney + 50, player.getMoney());
+        // The card is kept until the player uses it to leave jail
+        assertEquals(initialMoney, player.getMoney());
+        assertEquals(1, player.getJailFreeCards());
     }
     
     @Test
@@ -0,0 +1,146 @@
+package com.cfhayes.monopoly;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactEngineTest {
+    
+    @Test
+    void testMatchesGameRules() {
+        // The compact engine must make exactly the same moves as Game for the same seeds
+        for (long seed = 1; seed <= 20; seed++) {
+            Game game = new Game(new Dice(seed), new CardDeck(seed), DecisionMaker.ALWAYS_BUY, GameOutput.SILENT);
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.addPlayer("Charlie");
+            int gameTurns = game.play(300);
+            
+            CompactGameState state = new CompactGameState(BoardLayout.standard(), 3, 1500);
+            CompactEngine engine = new CompactEngine(new Dice(seed), new CardDeck(seed), PurchasePolicy.ALWAYS_BUY);
+            int engineTurns = engine.play(state, 300);
+            
+            assertEquals(gameTurns, engineTurns, "Turns differ for seed " + seed);
+            CompactGameState expected = CompactGameState.of(game);
+            for (int player = 0; player < 3; player++) {
+                assertEquals(expected.getCash(player), state.getCash(player), "Cash differs for seed " + seed);
+                assertEquals(expected.getPosition(player), state.getPosition(player), "Position differs for seed " + seed);
+            }
+            for (int square = 0; square < 40; square++) {
+                assertEquals(expected.getOwner(square), state.getOwner(square), "Owner differs for seed " + seed);
+            }
+        }
+    }
+    
+    @Test
+    void testMatchesGameRulesWhenLeavingJailEarly() {
+        DecisionMaker leaveEarly = new DecisionMaker() {
+            @Override
+            public boolean shouldLeaveJail(Player player, Game game) {
+                return true;
+            }
+            
+            @Override
+            public boolean shouldBuyProperty(Player player, Property property, Game game) {
+                return true;
+            }
+        };
+        PurchasePolicy leaveEarlyPolicy = new PurchasePolicy() {
+            @Override
+            public boolean shouldLeaveJail(CompactGameState state, int player) {
+                return true;
+            }
+            
+            @Override
+            public boolean shouldBuy(CompactGameState state, int player, int square) {
+                return true;
+            }
+        };
+        for (long seed = 1; seed <= 20; seed++) {
+            Game game = new Game(new Dice(seed), new CardDeck(seed), leaveEarly, GameOutput.SILENT);
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.play(300);
+            
+            CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1500);
+            new CompactEngine(new Dice(seed), new CardDeck(seed), leaveEarlyPolicy).play(state, 300);
+            
+            CompactGameState expected = CompactGameState.of(game);
+            for (int player = 0; player < 2; player++) {
+                assertEquals(expected.getCash(player), state.getCash(player), "Cash differs for seed " + seed);
+                assertEquals(expected.isInJail(player), state.isInJail(player), "Jail differs for seed " + seed);
+                assertEquals(expected.getJailFreeCards(player), state.getJailFreeCards(player),
+                             "Cards differ for seed " + seed);
+            }
+        }
+    }
+    
+    @Test
+    void testContinueTurnAfterDoubles() {
+        // Dice that always roll double ones
+        RandomGenerator ones = () -> 0L;
+        CompactEngine engine = new CompactEngine(new Dice(ones), new CardDeck(1), PurchasePolicy.NEVER_BUY);
+        
+        CompactGameState speeding = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        engine.continueTurn(speeding, 2);
+        assertTrue(speeding.isInJail(0));
+        assertEquals(10, speeding.getPosition(0));
+        assertEquals(1, speeding.getCurrentPlayer());
+        
+        CompactGameState broke = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        broke.setCash(0, 0);
+        engine.continueTurn(broke, 1);
+        assertEquals(0, broke.getPosition(0));
+        assertEquals(1, broke.getCurrentPlayer());
+    }
+    
+    @Test
+    void testNeverBuyLeavesBoardUnowned() {
+        CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        CompactEngine engine = new CompactEngine(new Dice(5), new CardDeck(5), PurchasePolicy.NEVER_BUY);
+        
+        engine.play(state, 100);
+        
+        for (int square = 0; square < 40; square++) {
+            assertEquals(CompactGameState.NO_OWNER, state.getOwner(square));
+        }
+    }
+    
+    @Test
+    void testPerSeatPolicies() {
+        CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        CompactEngine engine = new CompactEngine(new Dice(11), new CardDeck(11),
+                                                 new PurchasePolicy[] { PurchasePolicy.ALWAYS_BUY, PurchasePolicy.NEVER_BUY });
+        
+        engine.play(state, 80);
+        
+        boolean anyOwned = false;
+        for (int square = 0; square < 40; square++) {
+            assertNotEquals(1, state.getOwner(square));
+            anyOwned |= state.getOwner(square) == 0;
+        }
+        assertTrue(anyOwned);
+    }
+    
+    @Test
+    void testRentMatchesProperty() {
+        CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        state.setOwner(5, 0);
+        state.setOwner(15, 0);
+        assertEquals(50, CompactEngine.rent(state, 0, 5));
+        
+        state.setOwner(37, 1);
+        assertEquals(35, CompactEngine.rent(state, 1, 37));
+        state.setOwner(39, 1);
+        assertEquals(70, CompactEngine.rent(state, 1, 37));
+        state.setHouses(37, 2);
+        assertEquals(560, CompactEngine.rent(state, 1, 37));
+        state.setHouses(37, CompactGameState.HOTEL);
+        assertEquals(1120, CompactEngine.rent(state, 1, 37));
+        
+        state.setOwner(12, 0);
+        assertEquals(28, CompactEngine.rent(state, 0, 12));
+        state.setOwner(28, 0);
+        assertEquals(70, CompactEngine.rent(state, 0, 12));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+class CompactGameStateTest {
+    
+    private CompactGameState state;
+    
+    @BeforeEach
+    void setUp() {
+        state = new CompactGameState(BoardLayout.standard(), 3, 1500);
+    }
+    
+    @Test
+    void testNewState() {
+        assertEquals(3, state.getPlayerCount());
+        for (int player = 0; player < 3; player++) {
+            assertEquals(0, state.getPosition(player));
+            assertEquals(1500, state.getCash(player));
+            assertFalse(state.isInJail(player));
+        }
+        for (int square = 0; square < 40; square++) {
+            assertEquals(CompactGameState.NO_OWNER, state.getOwner(square));
+            assertEquals(0, state.getHouses(square));
+            assertFalse(state.isMortgaged(square));
+        }
+    }
+    
+    @Test
+    void testStandardLayout() {
+        BoardLayout layout = BoardLayout.standard();
+        assertEquals(40, layout.getSize());
+        assertEquals(10, layout.getJailPosition());
+        assertEquals(SquareKind.GO, layout.getKind(0));
+        assertEquals(SquareKind.RAILROAD, layout.getKind(5));
+        assertEquals(SquareKind.UTILITY, layout.getKind(12));
+        assertEquals(SquareKind.CHANCE, layout.getKind(7));
+        assertEquals(SquareKind.GO_TO_JAIL, layout.getKind(30));
+        assertEquals(400, layout.getPrice(39));
+        assertEquals(8, layout.getGroupCount());
+        assertEquals(2, layout.getGroupSize(layout.getGroup(39)));
+        assertEquals(3, layout.getGroupSize(layout.getGroup(24)));
+        assertEquals(-1, layout.getGroup(5));
+    }
+    
+    @Test
+    void testSubtractCashStopsAtZero() {
+        state.subtractCash(0, 2000);
+        assertEquals(0, state.getCash(0));
+    }
+    
+    @Test
+    void testJailAndMortgageFlags() {
+        state.setInJail(1, true);
+        state.setJailTurns(1, 2);
+        assertTrue(state.isInJail(1));
+        assertFalse(state.isInJail(0));
+        assertEquals(2, state.getJailTurns(1));
+        
+        state.setInJail(1, false);
+        assertFalse(state.isInJail(1));
+        assertEquals(0, state.getJailTurns(1));
+        
+        state.setMortgaged(39, true);
+        assertTrue(state.isMortgaged(39));
+        assertFalse(state.isMortgaged(37));
+        state.setMortgaged(39, false);
+        assertFalse(state.isMortgaged(39));
+    }
+    
+    @Test
+    void testCaptureFromObjects() {
+        Board board = new Board();
+        Player alice = new Player("Alice", 1200);
+        Player bob = new Player("Bob", 800);
+        alice.setPosition(24);
+        bob.setInJail(true);
+        bob.setPosition(10);
+        
+        Property boardwalk = (Property) board.getSpace(39);
+        boardwalk.setOwner(bob);
+        bob.addProperty(boardwalk);
+        boardwalk.setHasHotel(true);
+        Property illinois = (Property) board.getSpace(24);
+        illinois.setOwner(alice);
+        alice.addProperty(illinois);
+        illinois.setHouses(3);
+        
+        CompactGameState captured = CompactGameState.of(List.of(alice, bob), board);
+        
+        assertEquals(24, captured.getPosition(0));
+        assertEquals(1200, captured.getCash(0));
+        assertEquals(800, captured.getCash(1));
+        assertTrue(captured.isInJail(1));
+        assertEquals(1, captured.getOwner(39));
+        assertEquals(CompactGameState.HOTEL, captured.getHouses(39));
+        assertEquals(0, captured.getOwner(24));
+        assertEquals(3, captured.getHouses(24));
+        assertEquals(CompactGameState.NO_OWNER, captured.getOwner(1));
+    }
+    
+    @Test
+    void testApplyToObjects() {
+        Board board = new Board();
+        Player alice = new Player("Alice", 1500);
+        Player bob = new Player("Bob", 1500);
+        
+        CompactGameState compact = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        compact.setPosition(0, 5);
+        compact.setCash(0, 900);
+        compact.setOwner(5, 0);
+        compact.setOwner(37, 1);
+        compact.setOwner(39, 1);
+        compact.setHouses(39, 2);
+        compact.setInJail(1, true);
+        compact.setJailTurns(1, 1);
+        
+        compact.applyTo(List.of(alice, bob), board);
+        
+        assertEquals(5, alice.getPosition());
+        assertEquals(900, alice.getMoney());
+        assertEquals(1, alice.getProperties().size());
+        assertEquals(alice, ((Property) board.getSpace(5)).getOwner());
+        assertEquals(2, bob.getProperties().size());
+        assertEquals(2, ((Property) board.getSpace(39)).getHouses());
+        assertTrue(bob.isInJail());
+        assertEquals(1, bob.getJailTurns());
+        
+        // Capturing again gives the same state back
+        CompactGameState recaptured = CompactGameState.of(List.of(alice, bob), board);
+        for (int square = 0; square < 40; square++) {
+            assertEquals(compact.getOwner(square), recaptured.getOwner(square));
+            assertEquals(compact.getHouses(square), recaptured.getHouses(square));
+        }
+    }
+    
+    @Test
+    void testOwnershipCounts() {
+        BoardLayout layout = state.getLayout();
+        state.setOwner(5, 0);
+        state.setOwner(15, 0);
+        state.setOwner(12, 1);
+        state.setOwner(37, 2);
+        state.setOwner(39, 2);
+        
+        assertEquals(2, state.getRailroadsOwned(0));
+        assertEquals(1, state.getUtilitiesOwned(1));
+        assertEquals(2, state.getOwnedInGroup(2, layout.getGroup(39)));
+        assertTrue(state.ownsGroup(2, layout.getGroup(39)));
+        
+        // Transfers move the counts with the square
+        state.setOwner(39, 1);
+        assertFalse(state.ownsGroup(2, layout.getGroup(39)));
+        assertEquals(1, state.getOwnedInGroup(1, layout.getGroup(39)));
+        
+        state.setOwner(15, CompactGameState.NO_OWNER);
+        assertEquals(1, state.getRailroadsOwned(0));
+    }
+    
+    @Test
+    void testGameOverAndWinner() {
+        assertFalse(state.isGameOver());
+        assertEquals(-1, state.getWinner());
+        
+        state.setCash(0, 0);
+        state.setCash(2, 0);
+        assertTrue(state.isGameOver());
+        assertEquals(1, state.getWinner());
+    }
+    
+    @Test
+    void testCopyIsIndependent() {
+        state.setOwner(1, 0);
+        state.setPosition(0, 5);
+        
+        CompactGameState copy = state.copy();
+        assertTrue(copy.isSharingSquares());
+        assertTrue(state.isSharingSquares());
+        
+        copy.setOwner(3, 0);
+        copy.setHouses(1, 2);
+        copy.setMortgaged(39, true);
+        copy.setPosition(0, 9);
+        copy.addCash(1, 100);
+        assertFalse(copy.isSharingSquares());
+        
+        assertEquals(CompactGameState.NO_OWNER, state.getOwner(3));
+        assertEquals(0, state.getHouses(1));
+        assertFalse(state.isMortgaged(39));
+        assertEquals(5, state.getPosition(0));
+        assertEquals(1500, state.getCash(1));
+        assertEquals(1, state.getOwnedInGroup(0, state.getLayout().getGroup(1)));
+        assertEquals(2, copy.getOwnedInGroup(0, copy.getLayout().getGroup(1)));
+        
+        // The original copies on its own first write too
+        state.setOwner(5, 2);
+        assertEquals(CompactGameState.NO_OWNER, copy.getOwner(5));
+        assertFalse(state.isSharingSquares());
+    }
+    
+    @Test
+    void testCopyPlaysOutIdentically() {
+        CompactEngine first = new CompactEngine(new Dice(4), new CardDeck(4), PurchasePolicy.ALWAYS_BUY);
+        first.play(state, 50);
+        CompactGameState copy = state.copy();
+        
+        new CompactEngine(new Dice(9), new CardDeck(9), PurchasePolicy.ALWAYS_BUY).play(state, 100);
+        new CompactEngine(new Dice(9), new CardDeck(9), PurchasePolicy.ALWAYS_BUY).play(copy, 100);
+        
+        assertEquals(state.toString(), copy.toString());
+        for (int square = 0; square < 40; square++) {
+            assertEquals(state.getOwner(square), copy.getOwner(square));
+        }
+    }
+}
\ No newline at end of file
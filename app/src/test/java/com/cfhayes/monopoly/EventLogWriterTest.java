@@ -0,0 +1,129 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogWriterTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testRoundTrip() throws IOException {
+        Path log = tempDir.resolve("game.log");
+        EventBuffer expected = new EventBuffer();
+        int turns;
+        try (EventLogWriter writer = new EventLogWriter(log)) {
+            turns = playGame(GameEventSink.of(writer, expected), 123, 300);
+        }
+        
+        EventBuffer actual = new EventBuffer();
+        try (EventLogReader reader = new EventLogReader(log)) {
+            assertEquals(expected.size(), reader.readAll(actual));
+        }
+        
+        assertEquals(render(expected), render(actual));
+        // Compact: a handful of bytes per event
+        assertTrue(Files.size(log) < turns * 40L, "Log is " + Files.size(log) + " bytes for " + turns + " turns");
+    }
+    
+    @Test
+    void testSmallBufferAndManyGames() throws IOException {
+        Path log = tempDir.resolve("games.log");
+        EventBuffer expected = new EventBuffer();
+        try (EventLogWriter writer = new EventLogWriter(log, 1024)) {
+            for (long seed = 1; seed <= 5; seed++) {
+                playGame(GameEventSink.of(writer, expected), seed, 200);
+            }
+        }
+        
+        EventBuffer actual = new EventBuffer();
+        try (EventLogReader reader = new EventLogReader(log)) {
+            reader.readAll(actual);
+            assertNull(reader.next());
+        }
+        
+        assertEquals(5, actual.getEvents(GameEvent.GameStarted.class).size());
+        assertEquals(render(expected), render(actual));
+    }
+    
+    @Test
+    void testAppendToExistingLog() throws IOException {
+        Path log = tempDir.resolve("append.log");
+        EventBuffer expected = new EventBuffer();
+        try (EventLogWriter writer = new EventLogWriter(log)) {
+            playGame(GameEventSink.of(writer, expected), 1, 50);
+        }
+        try (EventLogWriter writer = new EventLogWriter(log)) {
+            playGame(GameEventSink.of(writer, expected), 2, 50);
+        }
+        
+        EventBuffer actual = new EventBuffer();
+        try (EventLogReader reader = new EventLogReader(log)) {
+            reader.readAll(actual);
+        }
+        assertEquals(render(expected), render(actual));
+    }
+    
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path notALog = tempDir.resolve("text.txt");
+        Files.writeString(notALog, "hello world");
+        
+        assertThrows(IOException.class, () -> new EventLogReader(notALog));
+    }
+    
+    @Test
+    void testRejectsOlderVersions() throws IOException {
+        Path oldLog = tempDir.resolve("old.log");
+        Files.write(oldLog, ByteBuffer.allocate(5).putInt(EventLogFormat.MAGIC).put((byte) 1).array());
+        
+        IOException error = assertThrows(IOException.class, () -> new EventLogReader(oldLog));
+        assertEquals("Unsupported event log version 1", error.getMessage());
+    }
+    
+    private int playGame(GameEventSink sink, long seed, int maxTurns) {
+        Game game = new Game(new Dice(seed), new CardDeck(seed), DecisionMaker.ALWAYS_BUY, sink);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        game.addPlayer("Charlie");
+        return game.play(maxTurns);
+    }
+    
+    /**
+     * Describe events by value (names, squares, amounts) so events with different
+     * Player and board objects can be compared
+     */
+    private List<String> render(EventBuffer buffer) {
+        List<String> lines = new ArrayList<>();
+        for (GameEvent event : buffer.getEvents()) {
+            StringBuilder line = new StringBuilder(event.getClass().getSimpleName());
+            for (RecordComponent component : event.getClass().getRecordComponents()) {
+                Object value;
+                try {
+                    value = component.getAccessor().invoke(event);
+                } catch (ReflectiveOperationException e) {
+                    throw new AssertionError(e);
+                }
+                if (value instanceof Player) {
+                    value = ((Player) value).getName();
+                } else if (value instanceof BoardSpace) {
+                    value = ((BoardSpace) value).getPosition();
+                } else if (value instanceof Card) {
+                    value = ((Card) value).getDescription();
+                }
+                line.append(' ').append(value);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
\ No newline at end of file
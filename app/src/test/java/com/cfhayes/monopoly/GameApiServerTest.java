@@ -0,0 +1,147 @@
+package com.cfhayes.monopoly;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameApiServerTest {
+    private GameServer games;
+    private GameApiServer api;
+    private HttpClient client;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        games = new GameServer(20);
+        api = new GameApiServer(games, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        api.start();
+        client = HttpClient.newHttpClient();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        api.close();
+        games.close();
+    }
+    
+    @Test
+    void testCreatesAndListsGames() throws Exception {
+        HttpResponse<String> created = send("POST", "/games?players=Alice,Bob&seed=3");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"name\":\"Alice\""));
+        assertTrue(created.body().contains("\"name\":\"Bob\""));
+        
+        long id = games.getGames().iterator().next().getId();
+        assertEquals(200, send("GET", "/games/" + id).statusCode());
+        assertTrue(send("GET", "/games").body().contains("\"id\":" + id));
+        
+        assertEquals(200, send("DELETE", "/games/" + id).statusCode());
+        assertEquals(404, send("GET", "/games/" + id).statusCode());
+    }
+    
+    @Test
+    void testRejectsBadRequests() throws Exception {
+        assertEquals(400, send("POST", "/games").statusCode());
+        assertEquals(400, send("POST", "/games?players=Alone").statusCode());
+        assertEquals(400, send("POST", "/games?players=Alice,Alice").statusCode());
+        assertEquals(404, send("GET", "/games/999").statusCode());
+        assertEquals(400, send("GET", "/games/abc").statusCode());
+        assertEquals(405, send("PUT", "/games").statusCode());
+        
+        send("POST", "/games?players=Alice,Bob");
+        long id = games.getGames().iterator().next().getId();
+        assertEquals(400, send("POST", "/games/" + id + "/seats/5/roll").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/seats/4294967296/roll").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/seats/-1/roll").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/seats/0/trade").statusCode());
+    }
+    
+    @Test
+    void testPlaysGameOverHttpAndStreamsEvents() throws Exception {
+        send("POST", "/games?players=Alice,Bob&seed=7");
+        GameSession session = games.getGames().iterator().next();
+        
+        // Open the event stream before playing so no event is missed
+        HttpResponse<InputStream> stream = client.send(
+            HttpRequest.newBuilder(uri("/games/" + session.getId() + "/events")).build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, stream.statusCode());
+        while (!session.isEnabled()) {
+            Thread.sleep(1);
+        }
+        CompletableFuture<List<String>> lines = CompletableFuture.supplyAsync(() -> readLines(stream.body()));
+        
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!session.isEnded() && System.nanoTime() < deadline) {
+            for (int seat = 0; seat < 2; seat++) {
+                switch (session.getAwaiting(seat)) {
+                    case ROLL:
+                        assertEquals(202, send("POST", "/games/" + session.getId() + "/seats/" + seat + "/roll")
+                                              .statusCode());
+                        break;
+                    case PURCHASE:
+                        send("POST", "/games/" + session.getId() + "/seats/" + seat + "/buy");
+                        break;
+                    case JAIL:
+                        assertEquals(202, send("POST", "/games/" + session.getId() + "/seats/" + seat + "/leave-jail")
+                                              .statusCode());
+                        break;
+                    default:
+                        Thread.sleep(1);
+                        break;
+                }
+            }
+        }
+        
+        assertEquals(GameSession.Status.FINISHED, session.getStatus());
+        List<String> received = lines.get(10, TimeUnit.SECONDS);
+        assertTrue(received.contains("event: TurnStarted"));
+        assertTrue(received.stream().filter(line -> line.equals("event: DiceRolled")).count() >= 20);
+        assertTrue(received.stream().anyMatch(line -> line.startsWith("data: {\"type\":\"Purchased\",\"player\":")));
+    }
+    
+    @Test
+    void testQuotesJsonStrings() {
+        assertEquals("\"a\\\"b\\\\c\\nd\\u0001\"", GameApiServer.quote("a\"b\\c\nd\u0001"));
+    }
+    
+    private static List<String> readLines(InputStream body) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return lines;
+    }
+    
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                                         .method(method, HttpRequest.BodyPublishers.noBody())
+                                         .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + api.getPort() + path);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCheckpointTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testRestoreRewindsEverything() {
+        Game game = newGame(new Dice(8), new CardDeck(8));
+        game.play(60);
+        GameCheckpoint checkpoint = GameCheckpoint.capture(game);
+        
+        game.play(90);
+        String after = CompactGameState.of(game).toString();
+        int chanceRemaining = game.getCardDeck().getChanceCardsRemaining();
+        
+        checkpoint.restore(game);
+        assertEquals(60, game.getTurnCount());
+        assertEquals(60, checkpoint.getTurn());
+        
+        game.play(90);
+        assertEquals(after, CompactGameState.of(game).toString());
+        assertEquals(chanceRemaining, game.getCardDeck().getChanceCardsRemaining());
+    }
+    
+    @Test
+    void testRestoreIntoAnotherGame() {
+        Game source = newGame(new Dice(3), new CardDeck(4));
+        source.play(50);
+        GameCheckpoint checkpoint = GameCheckpoint.capture(source);
+        
+        Game copy = newGame(new Dice(99), new CardDeck(99));
+        checkpoint.restore(copy);
+        source.play(100);
+        copy.play(100);
+        
+        assertEquals(CompactGameState.of(source).toString(), CompactGameState.of(copy).toString());
+        for (int square = 0; square < 40; square++) {
+            assertEquals(CompactGameState.of(source).getOwner(square), CompactGameState.of(copy).getOwner(square));
+        }
+    }
+    
+    @Test
+    void testRequiresGameRandom() {
+        Game game = newGame(new Dice(new Random(1)), new CardDeck(1));
+        
+        assertThrows(IllegalStateException.class, () -> GameCheckpoint.capture(game));
+    }
+    
+    @Test
+    void testDiceMustMatch() {
+        GameCheckpoint checkpoint = GameCheckpoint.capture(newGame(new Dice(1), new CardDeck(1)));
+        GameCheckpoint batched = GameCheckpoint.capture(newGame(new BatchedDice(new GameRandom(1), 8), new CardDeck(1)));
+        
+        assertThrows(IllegalArgumentException.class,
+                     () -> checkpoint.restore(newGame(new BatchedDice(new GameRandom(1)), new CardDeck(1))));
+        assertThrows(IllegalArgumentException.class,
+                     () -> batched.restore(newGame(new BatchedDice(new GameRandom(1), 16), new CardDeck(1))));
+        assertThrows(IllegalArgumentException.class, () -> batched.restore(newGame(new Dice(1), new CardDeck(1))));
+    }
+    
+    @Test
+    void testPlayerCountMustMatch() {
+        GameCheckpoint checkpoint = GameCheckpoint.capture(newGame(new Dice(1), new CardDeck(1)));
+        Game bigger = newGame(new Dice(1), new CardDeck(1));
+        bigger.addPlayer("Dave");
+        
+        assertThrows(IllegalArgumentException.class, () -> checkpoint.restore(bigger));
+    }
+    
+    @Test
+    void testBinaryRoundTrip() {
+        Game game = newGame(new Dice(17), new CardDeck(18));
+        game.play(120);
+        GameCheckpoint checkpoint = GameCheckpoint.capture(game);
+        
+        byte[] bytes = checkpoint.toByteArray();
+        GameCheckpoint decoded = GameCheckpoint.fromByteArray(bytes);
+        
+        assertTrue(bytes.length < 300, "Checkpoint is " + bytes.length + " bytes");
+        assertArrayEquals(bytes, decoded.toByteArray());
+        assertEquals(120, decoded.getTurn());
+        assertEquals(List.of("Alice", "Bob", "Charlie"), decoded.getPlayerNames());
+    }
+    
+    @Test
+    void testNewGameIsIndependentCopy() {
+        Game game = newGame(new Dice(23), new CardDeck(24));
+        game.play(40);
+        
+        Game copy = GameCheckpoint.capture(game).newGame(DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        copy.play(200);
+        game.play(200);
+        
+        assertEquals(CompactGameState.of(game).toString(), CompactGameState.of(copy).toString());
+        assertNotSame(game.getPlayers().get(0), copy.getPlayers().get(0));
+    }
+    
+    @Test
+    void testFileCheckpoint() throws IOException {
+        Game game = newGame(new Dice(31), new CardDeck(32));
+        game.play(75);
+        Path file = tempDir.resolve("game.ckpt");
+        
+        GameCheckpoint.capture(game).writeTo(file);
+        Game resumed = GameCheckpoint.readFrom(file).newGame(DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        
+        assertEquals(CompactGameState.of(game).toString(), CompactGameState.of(resumed).toString());
+        assertFalse(Files.exists(tempDir.resolve("game.ckpt.tmp")));
+    }
+    
+    @Test
+    void testRejectsCorruptData() throws IOException {
+        byte[] bytes = GameCheckpoint.capture(newGame(new Dice(1), new CardDeck(1))).toByteArray();
+        
+        assertThrows(IllegalArgumentException.class, () -> GameCheckpoint.fromByteArray(new byte[] { 1, 2, 3 }));
+        assertThrows(IllegalArgumentException.class,
+                     () -> GameCheckpoint.fromByteArray(Arrays.copyOf(bytes, bytes.length - 5)));
+        Path file = tempDir.resolve("bad.ckpt");
+        Files.write(file, new byte[] { 0, 0, 0, 0 });
+        assertThrows(IOException.class, () -> GameCheckpoint.readFrom(file));
+    }
+    
+    @Test
+    void testRejectsOutOfRangeValues() {
+        Game game = newGame(new Dice(1), new CardDeck(1));
+        game.play(10);
+        byte[] bytes = GameCheckpoint.capture(game).toByteArray();
+        // Alice's position follows the header, player count and her name; the squares start at 60
+        assertRejected(bytes, 13, (byte) 0x7F);
+        assertRejected(bytes, 63, (byte) (CompactGameState.HOTEL + 1));
+        assertRejected(bytes, 60 + 2 * 40, (byte) 3);
+        
+        // The last two card entries repeat, so the Community Chest order is no permutation
+        byte[] repeated = bytes.clone();
+        repeated[repeated.length - 1] = repeated[repeated.length - 3];
+        repeated[repeated.length - 2] = repeated[repeated.length - 4];
+        GameCheckpoint decoded = GameCheckpoint.fromByteArray(repeated);
+        assertThrows(IllegalArgumentException.class, () -> decoded.newGame(DecisionMaker.NEVER_BUY, GameEventSink.NO_OP));
+        assertThrows(IllegalArgumentException.class, () -> decoded.restore(game));
+        assertEquals(10, game.getTurnCount());
+    }
+    
+    private static void assertRejected(byte[] bytes, int offset, byte value) {
+        byte[] corrupt = bytes.clone();
+        corrupt[offset] = value;
+        assertThrows(IllegalArgumentException.class, () -> GameCheckpoint.fromByteArray(corrupt));
+    }
+    
+    @Test
+    void testCustomBoard() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(
+            "GO | Start | 100\n"
+            + "PROPERTY | Elm Street | 60 | 4 | Green\n"
+            + "PROPERTY | Oak Street | 80 | 6 | Green\n"
+            + "JAIL | Lockup\n"
+            + "RAILROAD | Ferry | 150 | 20\n"));
+        List<Card> cards = List.of(
+            Card.of("Bank error", Card.CardType.CHANCE, CardEffect.MONEY, 50, 0),
+            Card.of("Birthday", Card.CardType.COMMUNITY_CHEST, CardEffect.COLLECT_FROM_EACH_PLAYER, 10, 0));
+        Game game = new Game(new Dice(5), new CardDeck(new GameRandom(5), cards), DecisionMaker.ALWAYS_BUY,
+                             GameEventSink.NO_OP, new Board(layout));
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        game.play(30);
+        byte[] bytes = GameCheckpoint.capture(game).toByteArray();
+        
+        Game copy = GameCheckpoint.fromByteArray(bytes, layout)
+            .newGame(DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP, new CardDeck(new GameRandom(), cards));
+        assertSame(layout, BoardLayout.of(copy.getBoard()));
+        copy.play(50);
+        game.play(50);
+        assertEquals(CompactGameState.of(game).toString(), CompactGameState.of(copy).toString());
+        
+        // Neither the bytes nor the checkpoint fit a game on the standard board
+        assertThrows(IllegalArgumentException.class, () -> GameCheckpoint.fromByteArray(bytes));
+        assertThrows(IllegalArgumentException.class,
+                     () -> GameCheckpoint.capture(game).restore(newGame(new Dice(1), new CardDeck(1))));
+    }
+    
+    @Test
+    void testRejectsOlderVersions() {
+        byte[] bytes = GameCheckpoint.capture(newGame(new Dice(1), new CardDeck(1))).toByteArray();
+        bytes[4] = 2;
+        
+        assertThrows(IllegalArgumentException.class, () -> GameCheckpoint.fromByteArray(bytes));
+    }
+    
+    private static Game newGame(Dice dice, CardDeck cardDeck) {
+        Game game = new Game(dice, cardDeck, DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        game.addPlayer("Charlie");
+        return game;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.cfhayes.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventSinkTest {
+    
+    @Test
+    void testBufferRecordsEveryTurn() {
+        EventBuffer buffer = new EventBuffer();
+        Game game = new Game(new Dice(42), new CardDeck(42), DecisionMaker.ALWAYS_BUY, buffer);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        
+        int turns = game.play(50);
+        
+        assertEquals(turns, buffer.getEvents(GameEvent.TurnStarted.class).size());
+        // Doubles roll again, so there is at least one roll per turn
+        assertTrue(buffer.getEvents(GameEvent.DiceRolled.class).size() > turns);
+        for (GameEvent.DiceRolled rolled : buffer.getEvents(GameEvent.DiceRolled.class)) {
+            assertTrue(rolled.roll() >= 2 && rolled.roll() <= 12);
+        }
+        assertFalse(buffer.getEvents(GameEvent.Purchased.class).isEmpty());
+        assertInstanceOf(GameEvent.GameStarted.class, buffer.getEvents().get(0));
+        assertInstanceOf(GameEvent.TurnStarted.class, buffer.getEvents().get(1));
+    }
+    
+    @Test
+    void testEventsDoNotChangeTheGame() {
+        Game silent = new Game(new Dice(7), new CardDeck(7), DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        Game recorded = new Game(new Dice(7), new CardDeck(7), DecisionMaker.ALWAYS_BUY, new EventBuffer());
+        for (Game game : List.of(silent, recorded)) {
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.play(200);
+        }
+        
+        for (int i = 0; i < 2; i++) {
+            assertEquals(silent.getPlayers().get(i).getMoney(), recorded.getPlayers().get(i).getMoney());
+            assertEquals(silent.getPlayers().get(i).getPosition(), recorded.getPlayers().get(i).getPosition());
+        }
+    }
+    
+    @Test
+    void testRentPaidEvent() {
+        EventBuffer buffer = new EventBuffer();
+        Property property = new Property("Boardwalk", 39, 400, 50, Property.PropertyType.REGULAR, "Dark Blue");
+        Player owner = new Player("Owner", 1500);
+        Player visitor = new Player("Visitor", 1500);
+        property.setOwner(owner);
+        owner.addProperty(property);
+        
+        property.handleLanding(visitor, buffer);
+        
+        List<GameEvent.RentPaid> rents = buffer.getEvents(GameEvent.RentPaid.class);
+        assertEquals(1, rents.size());
+        assertEquals(visitor, rents.get(0).payer());
+        assertEquals(owner, rents.get(0).owner());
+        assertEquals(50, rents.get(0).amount());
+    }
+    
+    @Test
+    void testConsoleRendererText() {
+        List<String> lines = new ArrayList<>();
+        ConsoleEventRenderer renderer = new ConsoleEventRenderer(lines::add);
+        Player player = new Player("Alice", 1500);
+        
+        renderer.accept(new GameEvent.DiceRolled(player, 7));
+        renderer.accept(new GameEvent.Jailed(player));
+        renderer.accept(new GameEvent.GameEnded(player));
+        
+        assertEquals(List.of("Rolled: 7", "Go to Jail! Do not pass GO, do not collect $200", "\nGame Over! Alice wins!"),
+                     lines);
+        assertFalse(new ConsoleEventRenderer(GameOutput.SILENT).isEnabled());
+    }
+    
+    @Test
+    void testCombinedSinks() {
+        EventBuffer first = new EventBuffer();
+        EventBuffer second = new EventBuffer();
+        
+        assertSame(GameEventSink.NO_OP, GameEventSink.of(GameEventSink.NO_OP));
+        assertSame(first, GameEventSink.of(first, GameEventSink.NO_OP));
+        
+        GameEventSink both = GameEventSink.of(first, second);
+        both.accept(new GameEvent.GameStarted(2));
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertFalse(GameEventSink.NO_OP.isEnabled());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameFlightEventsTest {
+    
+    @Test
+    void testGameEmitsFlightEvents() throws IOException {
+        List<GameEvent> events = new CopyOnWriteArrayList<>();
+        GameEventSink sink = events::add;
+        Path file = Files.createTempFile("monopoly", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Turn", "Decision", "RentPayment", "CardExecution", "Bankruptcy")) {
+                recording.enable("com.cfhayes.monopoly." + name).withoutThreshold();
+            }
+            recording.start();
+            Game game = new Game(new Dice(11), new CardDeck(11), DecisionMaker.ALWAYS_BUY, sink);
+            game.addPlayer("Alice");
+            game.addPlayer("Bob");
+            game.play(2000);
+            recording.stop();
+            recording.dump(file);
+            
+            Map<String, Integer> counts = new HashMap<>();
+            RecordedEvent firstTurn = null;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                String name = event.getEventType().getName();
+                counts.merge(name, 1, Integer::sum);
+                // Events are not necessarily read back in the order they were committed
+                if (name.equals("com.cfhayes.monopoly.Turn") && event.getInt("turn") == 1) {
+                    firstTurn = event;
+                }
+            }
+            
+            assertEquals(game.getTurnCount(), recorded(counts, "Turn"));
+            assertEquals(count(events, GameEvent.RentPaid.class), recorded(counts, "RentPayment"));
+            assertEquals(count(events, GameEvent.CardDrawn.class), recorded(counts, "CardExecution"));
+            assertEquals(count(events, GameEvent.Bankrupt.class),
+                         recorded(counts, "Bankruptcy"));
+            assertTrue(recorded(counts, "Decision") >= count(events, GameEvent.DiceRolled.class));
+            
+            assertNotNull(firstTurn);
+            assertEquals(1, firstTurn.getInt("turn"));
+            assertEquals("Alice", firstTurn.getString("player"));
+            assertEquals(0, firstTurn.getInt("startPosition"));
+            assertEquals(1500, firstTurn.getInt("startCash"));
+            assertTrue(firstTurn.getInt("rolls") >= 1);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    private static int recorded(Map<String, Integer> counts, String name) {
+        return counts.getOrDefault("com.cfhayes.monopoly." + name, 0);
+    }
+    
+    private static int count(List<GameEvent> events, Class<? extends GameEvent> type) {
+        return (int) events.stream().filter(type::isInstance).count();
+    }
+}
\ No newline at end of file
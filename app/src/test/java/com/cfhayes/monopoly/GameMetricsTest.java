@@ -0,0 +1,101 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+    
+    @Test
+    void testCountsMatchEvents() {
+        GameMetrics metrics = new GameMetrics();
+        List<GameEvent> events = new CopyOnWriteArrayList<>();
+        GameEventSink sink = events::add;
+        AtomicInteger decisions = new AtomicInteger();
+        DecisionMaker countingDecisions = new DecisionMaker() {
+            @Override
+            public boolean shouldLeaveJail(Player player, Game game) {
+                decisions.incrementAndGet();
+                return false;
+            }
+            
+            @Override
+            public boolean shouldBuyProperty(Player player, Property property, Game game) {
+                decisions.incrementAndGet();
+                return true;
+            }
+        };
+        Game game = new Game(new Dice(7), new CardDeck(7), countingDecisions, sink);
+        game.setMetrics(metrics);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        int turns = game.play(200);
+        
+        assertEquals(turns, metrics.getTurns());
+        assertEquals(turns, metrics.getTurnLatency().getCount());
+        assertEquals(count(events, GameEvent.DiceRolled.class), metrics.getRolls());
+        assertEquals(count(events, GameEvent.RentPaid.class), metrics.getRentPayments());
+        assertEquals(count(events, GameEvent.CardDrawn.class), metrics.getCardDraws());
+        assertEquals(count(events, GameEvent.Purchased.class), metrics.getPurchases());
+        assertEquals(events.stream()
+                           .filter(GameEvent.RentPaid.class::isInstance)
+                           .mapToLong(event -> ((GameEvent.RentPaid) event).amount())
+                           .sum(), metrics.getRentCollected());
+        assertEquals(decisions.get(), metrics.getDecisionLatency().getCount());
+        assertTrue(metrics.getTurnLatency().getMax() > 0);
+        
+        metrics.reset();
+        assertEquals(0, metrics.getTurns());
+        assertEquals(0, metrics.getDecisionLatency().getCount());
+    }
+    
+    @Test
+    void testDisabledMetricsRecordNothing() {
+        Game game = new Game(new Dice(7), new CardDeck(7), DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP);
+        game.setMetrics(GameMetrics.DISABLED);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        game.play(50);
+        
+        assertFalse(GameMetrics.DISABLED.isEnabled());
+        assertEquals(0, GameMetrics.DISABLED.getTurns());
+        assertEquals(0, GameMetrics.DISABLED.getTurnLatency().getCount());
+    }
+    
+    @Test
+    void testSharedAcrossSimulationThreads() {
+        GameMetrics metrics = new GameMetrics();
+        SimulationRunner runner = new SimulationRunner(2, 100, DecisionMaker.ALWAYS_BUY);
+        runner.setMetrics(metrics);
+        SimulationStats stats = runner.run(200, 3);
+        
+        assertEquals(stats.getTotalTurns(), metrics.getTurns());
+    }
+    
+    @Test
+    void testReporterDumpsPeriodically() throws InterruptedException {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordTurn(1000);
+        List<String> lines = new CopyOnWriteArrayList<>();
+        try (MetricsReporter reporter = MetricsReporter.start(metrics, lines::add, Duration.ofMillis(20))) {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (lines.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+        assertTrue(lines.size() >= 2);
+        assertTrue(lines.get(0).contains("turns=1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> MetricsReporter.start(metrics, lines::add, Duration.ZERO));
+        
+        // Sub-millisecond intervals are scheduled as they are, not rounded down to zero
+        MetricsReporter.start(metrics, lines::add, Duration.ofNanos(500_000)).close();
+    }
+    
+    private static long count(List<GameEvent> events, Class<? extends GameEvent> type) {
+        return events.stream().filter(type::isInstance).count();
+    }
+}
\ No newline at end of file
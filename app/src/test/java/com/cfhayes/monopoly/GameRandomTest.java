@@ -0,0 +1,88 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.SplittableRandom;
+
+class GameRandomTest {
+    
+    @Test
+    void testSameSeedSameSequence() {
+        GameRandom random1 = new GameRandom(42);
+        GameRandom random2 = new GameRandom(42);
+        
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random1.nextLong(), random2.nextLong());
+        }
+    }
+    
+    @Test
+    void testNextIntStaysInBounds() {
+        GameRandom random = new GameRandom(7);
+        int[] counts = new int[6];
+        
+        for (int i = 0; i < 60000; i++) {
+            int value = random.nextInt(6);
+            assertTrue(value >= 0 && value < 6, "Value out of range: " + value);
+            counts[value]++;
+        }
+        
+        // Each face should come up roughly 10000 times
+        for (int count : counts) {
+            assertTrue(count > 9500 && count < 10500, "Unbalanced count: " + count);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+    
+    @Test
+    void testStreamsAreReproducibleAndDistinct() {
+        GameRandom stream0 = GameRandom.forStream(1234, 0);
+        GameRandom stream0Again = GameRandom.forStream(1234, 0);
+        GameRandom stream1 = GameRandom.forStream(1234, 1);
+        
+        long first = stream0.nextLong();
+        assertEquals(first, stream0Again.nextLong());
+        assertNotEquals(first, stream1.nextLong());
+    }
+    
+    @Test
+    void testSplitIsDeterministic() {
+        GameRandom parent1 = new GameRandom(5);
+        GameRandom parent2 = new GameRandom(5);
+        
+        GameRandom child1 = parent1.split();
+        GameRandom child2 = parent2.split();
+        
+        for (int i = 0; i < 20; i++) {
+            assertEquals(child1.nextLong(), child2.nextLong());
+        }
+        assertEquals(parent1.nextLong(), parent2.nextLong());
+    }
+    
+    @Test
+    void testStateRestore() {
+        GameRandom random = new GameRandom(99);
+        random.nextLong();
+        long[] saved = random.getState();
+        long expected = random.nextLong();
+        
+        random.nextLong();
+        random.setState(saved);
+        assertEquals(expected, random.nextLong());
+        
+        assertThrows(IllegalArgumentException.class, () -> random.setState(new long[4]));
+    }
+    
+    @Test
+    void testDiceAndDecksAcceptAnyGenerator() {
+        Dice dice = new Dice(new SplittableRandom(3));
+        for (int i = 0; i < 50; i++) {
+            int roll = dice.roll();
+            assertTrue(roll >= 2 && roll <= 12);
+        }
+        
+        CardDeck deck = new CardDeck(new SplittableRandom(3));
+        assertNotNull(deck.drawChanceCard());
+        assertNotNull(deck.drawCommunityChestCard());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.cfhayes.monopoly;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+    private GameServer server;
+    
+    @BeforeEach
+    void setUp() {
+        server = new GameServer(40);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+    
+    @Test
+    void testPlaysGameFromCommands() throws InterruptedException {
+        GameSession session = server.createGame(List.of("Alice", "Bob"), 7);
+        EventBuffer events = new EventBuffer();
+        session.subscribe(event -> {
+            synchronized (events) {
+                events.accept(event);
+            }
+        });
+        
+        // Answer whatever the game asks until it ends: Alice buys everything and leaves jail early, Bob neither
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!session.awaitEnd(Duration.ofMillis(1)) && System.nanoTime() < deadline) {
+            for (int seat = 0; seat < 2; seat++) {
+                switch (session.getAwaiting(seat)) {
+                    case ROLL:
+                        session.submit(seat, QueueDecisionMaker.Command.ROLL);
+                        break;
+                    case PURCHASE:
+                        session.submit(seat, seat == 0 ? QueueDecisionMaker.Command.BUY
+                                                       : QueueDecisionMaker.Command.DECLINE);
+                        break;
+                    case JAIL:
+                        session.submit(seat, seat == 0 ? QueueDecisionMaker.Command.LEAVE_JAIL
+                                                       : QueueDecisionMaker.Command.ROLL);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        
+        assertEquals(GameSession.Status.FINISHED, session.getStatus());
+        assertEquals(40, session.getGame().getTurnCount());
+        assertFalse(session.getGame().getPlayers().get(0).getProperties().isEmpty());
+        assertTrue(session.getGame().getPlayers().get(1).getProperties().isEmpty());
+        synchronized (events) {
+            assertTrue(events.getEvents(GameEvent.DiceRolled.class).size() > 40);
+        }
+    }
+    
+    @Test
+    void testHoldsManyIdleGames() throws InterruptedException {
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            sessions.add(server.createGame(List.of("Alice", "Bob")));
+        }
+        
+        assertEquals(200, server.getGameCount());
+        for (GameSession session : sessions) {
+            while (session.getAwaiting(0) != QueueDecisionMaker.Awaiting.ROLL) {
+                Thread.sleep(1);
+            }
+        }
+        
+        server.close();
+        for (GameSession session : sessions) {
+            assertTrue(session.awaitEnd(Duration.ofSeconds(5)));
+            assertEquals(GameSession.Status.STOPPED, session.getStatus());
+        }
+        assertEquals(0, server.getGameCount());
+    }
+    
+    @Test
+    void testStaleCommandsAreDiscarded() throws InterruptedException {
+        GameSession session = server.createGame(List.of("Alice", "Bob"), 1);
+        
+        // A purchase answer while a roll is awaited must not count as the roll
+        session.submit(0, QueueDecisionMaker.Command.BUY);
+        Thread.sleep(20);
+        assertEquals(QueueDecisionMaker.Awaiting.ROLL, session.getAwaiting(0));
+        
+        server.removeGame(session.getId());
+        assertTrue(session.awaitEnd(Duration.ofSeconds(5)));
+        assertNull(server.getGame(session.getId()));
+    }
+    
+    @Test
+    void testForgetsEndedGames() throws InterruptedException {
+        try (GameServer shortLived = new GameServer(2, Thread::new, Duration.ofMillis(50))) {
+            GameSession session = shortLived.createGame(List.of("Alice", "Bob"), 3);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!session.awaitEnd(Duration.ofMillis(1)) && System.nanoTime() < deadline) {
+                for (int seat = 0; seat < 2; seat++) {
+                    if (session.getAwaiting(seat) != QueueDecisionMaker.Awaiting.NOTHING) {
+                        session.submit(seat, session.getAwaiting(seat) == QueueDecisionMaker.Awaiting.PURCHASE
+                                             ? QueueDecisionMaker.Command.DECLINE
+                                             : QueueDecisionMaker.Command.ROLL);
+                    }
+                }
+            }
+            assertEquals(GameSession.Status.FINISHED, session.getStatus());
+            
+            // Still readable right after the end, then forgotten
+            while (shortLived.getGame(session.getId()) != null && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertNull(shortLived.getGame(session.getId()));
+            assertEquals(0, shortLived.getGameCount());
+        }
+    }
+    
+    @Test
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> server.createGame(List.of("Alone")));
+        assertThrows(IllegalArgumentException.class, () -> server.createGame(List.of("Alice", "Alice")));
+        GameSession session = server.createGame(List.of("Alice", "Bob"));
+        assertThrows(IllegalArgumentException.class, () -> session.submit(2, QueueDecisionMaker.Command.ROLL));
+    }
+}
\ No newline at end of file
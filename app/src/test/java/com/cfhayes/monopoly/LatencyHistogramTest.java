@@ -0,0 +1,72 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    
+    @Test
+    void testBucketsCoverEveryValue() {
+        for (long value : new long[] { 0, 1, 63, 64, 65, 127, 128, 1000, 123_456_789L, Long.MAX_VALUE / 2 }) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.highestValueIn(bucket) >= value, "Bucket too low for " + value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueIn(bucket - 1) < value, "Bucket too high for " + value);
+            }
+        }
+        assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) > LatencyHistogram.bucketOf(Long.MAX_VALUE / 2));
+    }
+    
+    @Test
+    void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500, histogram.getMean(), 0.001);
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 * 0.04);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 * 0.04);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+        assertTrue(histogram.getValueAtPercentile(0) <= 1000 * 1.04);
+    }
+    
+    @Test
+    void testMergesThreads() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long offset = t * 10_000L;
+            threads[t] = new Thread(() -> {
+                for (long value = 1; value <= 10_000; value++) {
+                    histogram.record(offset + value);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(20_000.5, histogram.getMean(), 0.001);
+        assertEquals(40_000, histogram.getMax());
+        assertEquals(20_000, histogram.getValueAtPercentile(50), 20_000 * 0.04);
+    }
+    
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(10));
+        
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovAnalyzerTest {
+    
+    @Test
+    void testProbabilitiesSumToOne() {
+        double[] landing = MarkovAnalyzer.standard().landingProbabilities();
+        
+        assertEquals(40, landing.length);
+        double total = 0;
+        for (double probability : landing) {
+            assertTrue(probability >= 0);
+            total += probability;
+        }
+        assertEquals(1.0, total, 1e-9);
+    }
+    
+    @Test
+    void testStandardRulesFavorJail() {
+        MarkovAnalyzer analyzer = MarkovAnalyzer.standard();
+        double[] landing = analyzer.landingProbabilities();
+        
+        // Nobody ever stays on "Go to Jail", and jail is the most visited square
+        assertEquals(0.0, landing[30], 1e-12);
+        for (int square = 0; square < 40; square++) {
+            if (square != 10) {
+                assertTrue(landing[10] > landing[square], "Square " + square + " beats jail");
+            }
+        }
+        // Illinois Avenue is the classic most landed-on property
+        assertTrue(landing[24] > landing[39]);
+        assertTrue(analyzer.inJailProbability() > 0.03 && analyzer.inJailProbability() < landing[10]);
+        assertTrue(analyzer.getIterations() > 1);
+    }
+    
+    @Test
+    void testMatchesSimulationWithJailRules() {
+        // Sample where the roller stands before every roll: those are exactly the chain's states
+        MarkovAnalyzer analyzer = MarkovAnalyzer.standard();
+        double[] expected = analyzer.landingProbabilities();
+        
+        int[] counts = new int[40];
+        int[] inJail = new int[1];
+        GameEventSink sampler = event -> {
+            if (event instanceof GameEvent.DiceRolled rolled) {
+                counts[rolled.player().getPosition()]++;
+                if (rolled.player().isInJail()) {
+                    inJail[0]++;
+                }
+            }
+        };
+        Game game = new Game(new Dice(42), new CardDeck(42), DecisionMaker.NEVER_BUY, sampler);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        for (Player player : game.getPlayers()) {
+            player.setMoney(1_000_000_000);
+        }
+        game.play(400_000);
+        
+        int rolls = 0;
+        for (int count : counts) {
+            rolls += count;
+        }
+        for (int square = 0; square < 40; square++) {
+            assertEquals(expected[square], (double) counts[square] / rolls, 0.002, "Square " + square);
+        }
+        assertEquals(analyzer.inJailProbability(), (double) inJail[0] / rolls, 0.002);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsDecisionMakerTest {
+    
+    private static MctsDecisionMaker newSearch(int rollouts, int workers, long seed) {
+        return new MctsDecisionMaker(rollouts, Duration.ofMinutes(1), 100, ForkJoinPool.commonPool(), workers, seed);
+    }
+    
+    @Test
+    void testAvoidsPurchaseThatLeavesNoCash() {
+        // Without mortgages, a player who spends almost everything is likely to go broke
+        CompactGameState root = new CompactGameState(BoardLayout.standard(), 2, 1500);
+        root.setCash(0, 410);
+        root.setCurrentPlayer(1);
+        
+        double[] values = newSearch(2000, 2, 1).evaluate(root, 0, 39);
+        
+        assertTrue(values[0] > values[1], "Decline " + values[0] + " vs buy " + values[1]);
+    }
+    
+    @Test
+    void testDecisionsAreReproducible() {
+        CompactGameState root = new CompactGameState(BoardLayout.standard(), 3, 1500);
+        
+        double[] first = newSearch(300, 3, 42).evaluate(root, 0, 5);
+        double[] second = newSearch(300, 3, 42).evaluate(root, 0, 5);
+        
+        assertArrayEquals(first, second);
+    }
+    
+    @Test
+    void testDeclinesWhenUnaffordable() {
+        Game game = new Game(new Dice(1), new CardDeck(1), DecisionMaker.NEVER_BUY, GameEventSink.NO_OP);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        Player alice = game.getPlayers().get(0);
+        alice.setMoney(100);
+        Property boardwalk = (Property) game.getBoard().getSpace(39);
+        
+        assertFalse(newSearch(100, 1, 1).shouldBuyProperty(alice, boardwalk, game));
+    }
+    
+    @Test
+    void testScore() {
+        CompactGameState state = new CompactGameState(BoardLayout.standard(), 2, 1000);
+        assertEquals(0.5, MctsDecisionMaker.score(state, 0), 1e-9);
+        
+        state.setOwner(39, 0);
+        assertEquals(1400.0 / 2400, MctsDecisionMaker.score(state, 0), 1e-9);
+        
+        state.setCash(1, 0);
+        assertEquals(1.0, MctsDecisionMaker.score(state, 0));
+        assertEquals(0.0, MctsDecisionMaker.score(state, 1));
+    }
+    
+    @Test
+    void testPlaysFullGames() {
+        Game game = new Game(new Dice(5), new CardDeck(5), DecisionMaker.NEVER_BUY, GameEventSink.NO_OP);
+        game.addPlayer("Search", newSearch(50, 2, 7));
+        game.addPlayer("Passive");
+        
+        game.play(150);
+        
+        Player search = game.getPlayers().get(0);
+        assertFalse(search.getProperties().isEmpty());
+        assertTrue(game.getPlayers().get(1).getProperties().isEmpty());
+    }
+    
+    @Test
+    void testRolloutsUseTheGamesBoardAndCards() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(
+            "GO | Start | 100\n"
+            + "PROPERTY | Elm Street | 60 | 4 | Green\n"
+            + "CHANCE | Chance\n"
+            + "PROPERTY | Oak Street | 80 | 6 | Green\n"
+            + "JAIL | Lockup\n"
+            + "COMMUNITY_CHEST | Town Hall\n"));
+        List<Card> cards = List.of(
+            Card.of("Take a walk", Card.CardType.CHANCE, CardEffect.ADVANCE, 3, 1),
+            Card.of("Birthday", Card.CardType.COMMUNITY_CHEST, CardEffect.COLLECT_FROM_EACH_PLAYER, 10, 0));
+        Game game = new Game(new Dice(5), new CardDeck(new GameRandom(5), cards), DecisionMaker.NEVER_BUY,
+                             GameEventSink.NO_OP, new Board(layout));
+        game.addPlayer("Search", newSearch(50, 2, 7));
+        game.addPlayer("Passive");
+        
+        // The standard cards advance past the end of this board, so rollouts must draw the game's cards
+        game.play(60);
+        
+        assertFalse(game.getPlayers().get(0).getProperties().isEmpty());
+    }
+    
+    @Test
+    void testRejectsTinyBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsDecisionMaker(1));
+    }
+}
\ No newline at end of file
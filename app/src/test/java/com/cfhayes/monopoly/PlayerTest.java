@@ -79,6 +79,58 @@ class PlayerTest {
         assertTrue(player.getProperties().contains(property2));
     }
     
+    @Test
+    void testOwnershipCounts() {
+        Property reading = new Property("Reading Railroad", 5, 200, 25, Property.PropertyType.RAILROAD, "Railroad");
+        Property shortLine = new Property("Short Line", 35, 200, 25, Property.PropertyType.RAILROAD, "Railroad");
+        Property electric = new Property("Electric Company", 12, 150, 0, Property.PropertyType.UTILITY, "Utility");
+        Property parkPlace = new Property("Park Place", 37, 350, 35, Property.PropertyType.REGULAR, "Dark Blue");
+        
+        player.addProperty(reading);
+        player.addProperty(shortLine);
+        player.addProperty(electric);
+        player.addProperty(parkPlace);
+        
+        assertEquals(4, player.getOwnership().getPropertiesOwned());
+        assertEquals(2, player.getRailroadsOwned());
+        assertEquals(1, player.getUtilitiesOwned());
+        assertEquals(1, player.getPropertiesOwnedInGroup("Dark Blue"));
+        assertEquals(0, player.getPropertiesOwnedInGroup("Green"));
+        assertEquals(0, player.getPropertiesOwnedInGroup("No Such Group"));
+        
+        player.removeProperty(shortLine);
+        assertEquals(1, player.getRailroadsOwned());
+        
+        // Adding a property twice only counts it once
+        player.addProperty(reading);
+        assertEquals(1, player.getRailroadsOwned());
+        assertEquals(3, player.getProperties().size());
+    }
+    
+    @Test
+    void testSetOwnerMovesProperty() {
+        Player buyer = new Player("Buyer", 1500);
+        Property parkPlace = new Property("Park Place", 37, 350, 35, Property.PropertyType.REGULAR, "Dark Blue");
+        
+        parkPlace.setOwner(player);
+        assertEquals(1, player.getPropertiesOwnedInGroup("Dark Blue"));
+        assertTrue(player.getOwnedProperties().contains(parkPlace));
+        
+        parkPlace.setOwner(buyer);
+        assertEquals(0, player.getPropertiesOwnedInGroup("Dark Blue"));
+        assertTrue(player.getOwnedProperties().isEmpty());
+        assertEquals(1, buyer.getPropertiesOwnedInGroup("Dark Blue"));
+        
+        parkPlace.setOwner(null);
+        assertTrue(buyer.getOwnedProperties().isEmpty());
+    }
+    
+    @Test
+    void testOwnedPropertiesIsReadOnly() {
+        player.addProperty(new Property("Test Property", 1, 100, 10, Property.PropertyType.REGULAR, "Brown"));
+        assertThrows(UnsupportedOperationException.class, () -> player.getOwnedProperties().clear());
+    }
+    
     @Test
     void testJail() {
         assertFalse(player.isInJail());
@@ -0,0 +1,118 @@
+package com.cfhayes.monopoly;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyAnalyticsTest {
+    
+    @Test
+    void testTracksOwnershipAndPayback() {
+        Board board = new Board();
+        Property boardwalk = (Property) board.getSpace(39);
+        Player alice = new Player("Alice", 1500);
+        Player bob = new Player("Bob", 1500);
+        PropertyAnalytics analytics = new PropertyAnalytics(BoardLayout.standard());
+        
+        analytics.accept(new GameEvent.GameStarted(2));
+        analytics.accept(new GameEvent.TurnStarted(alice, 1, 0, 1500));
+        analytics.accept(new GameEvent.Landed(alice, boardwalk));
+        analytics.accept(new GameEvent.Purchased(alice, boardwalk, 400));
+        analytics.accept(new GameEvent.TurnStarted(bob, 2, 0, 1500));
+        analytics.accept(new GameEvent.Landed(bob, boardwalk));
+        analytics.accept(new GameEvent.RentPaid(bob, alice, boardwalk, 50));
+        analytics.accept(new GameEvent.TurnStarted(alice, 5, 39, 1150));
+        analytics.finishGame();
+        analytics.finishGame();
+        
+        assertEquals(1, analytics.getGames());
+        assertEquals(2, analytics.getLandings(39));
+        assertEquals(1, analytics.getPurchases(39));
+        assertEquals(400, analytics.getPurchaseCost(39));
+        assertEquals(1, analytics.getRentPayments(39));
+        assertEquals(50, analytics.getRentCollected(39));
+        assertEquals(4, analytics.getOwnershipTurns(39));
+        assertEquals(12.5, analytics.getRentPerOwnedTurn(39), 1e-9);
+        assertEquals(0.125, analytics.getReturnOnInvestment(39), 1e-9);
+        assertEquals(32, analytics.getPaybackTurns(39), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, analytics.getPaybackTurns(37));
+    }
+    
+    @Test
+    void testMatchesGameEvents() {
+        PropertyAnalytics analytics = new PropertyAnalytics(BoardLayout.standard());
+        List<GameEvent> events = new ArrayList<>();
+        Game game = new Game(new Dice(3), new CardDeck(3), DecisionMaker.ALWAYS_BUY,
+                             GameEventSink.of(analytics, events::add));
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        game.play(300);
+        analytics.finishGame();
+        
+        long rent = events.stream()
+                          .filter(GameEvent.RentPaid.class::isInstance)
+                          .mapToLong(event -> ((GameEvent.RentPaid) event).amount())
+                          .sum();
+        long purchases = events.stream().filter(GameEvent.Purchased.class::isInstance).count();
+        long totalRent = 0;
+        long totalPurchases = 0;
+        for (int square = 0; square < 40; square++) {
+            totalRent += analytics.getRentCollected(square);
+            totalPurchases += analytics.getPurchases(square);
+            if (analytics.getPurchases(square) > 0) {
+                assertTrue(analytics.getOwnershipTurns(square) <= game.getTurnCount());
+            }
+        }
+        assertEquals(rent, totalRent);
+        assertEquals(purchases, totalPurchases);
+        assertTrue(analytics.toString().contains("Dark Blue"));
+    }
+    
+    @Test
+    void testSimulationMergesWorkers() {
+        SimulationRunner parallel = new SimulationRunner(2, 200, DecisionMaker.ALWAYS_BUY);
+        parallel.setCollectPropertyAnalytics(true);
+        SimulationRunner sequential = new SimulationRunner(2, 200, DecisionMaker.ALWAYS_BUY, new ForkJoinPool(1));
+        sequential.setCollectPropertyAnalytics(true);
+        
+        PropertyAnalytics merged = parallel.run(300, 9).getPropertyAnalytics();
+        PropertyAnalytics single = sequential.run(300, 9).getPropertyAnalytics();
+        
+        assertEquals(300, merged.getGames());
+        for (int square = 0; square < 40; square++) {
+            assertEquals(single.getLandings(square), merged.getLandings(square));
+            assertEquals(single.getRentCollected(square), merged.getRentCollected(square));
+            assertEquals(single.getOwnershipTurns(square), merged.getOwnershipTurns(square));
+        }
+        assertTrue(merged.getRentCollected(24) > 0);
+        assertNull(new SimulationRunner(2, 200, DecisionMaker.ALWAYS_BUY).run(10, 9).getPropertyAnalytics());
+    }
+    
+    @Test
+    void testSimulationOnCustomBoard() throws IOException {
+        BoardLayout layout = BoardDefinitions.read(new StringReader(
+            "GO | Start | 100\n"
+            + "PROPERTY | Elm Street | 60 | 4 | Green\n"
+            + "CHANCE | Chance\n"
+            + "PROPERTY | Oak Street | 80 | 6 | Green\n"
+            + "JAIL | Lockup\n"
+            + "RAILROAD | Ferry | 150 | 20\n"
+            + "COMMUNITY_CHEST | Town Hall\n"));
+        List<Card> cards = List.of(
+            Card.of("Take the ferry", Card.CardType.CHANCE, CardEffect.ADVANCE, 5, 1),
+            Card.of("Birthday", Card.CardType.COMMUNITY_CHEST, CardEffect.COLLECT_FROM_EACH_PLAYER, 10, 0));
+        SimulationRunner runner = new SimulationRunner(2, 100, DecisionMaker.ALWAYS_BUY);
+        runner.setBoard(layout, cards);
+        runner.setCollectPropertyAnalytics(true);
+        
+        PropertyAnalytics analytics = runner.run(50, 3).getPropertyAnalytics();
+        
+        assertSame(layout, analytics.getLayout());
+        assertTrue(analytics.getLandings(5) > 0);
+        assertTrue(analytics.toString().contains("Ferry"));
+    }
+}
\ No newline at end of file
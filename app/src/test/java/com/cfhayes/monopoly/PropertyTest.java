@@ -124,6 +124,56 @@ class PropertyTest {
         assertEquals(70, utility.calculateRent()); // 10 * 7 (average dice roll)
     }
     
+    @Test
+    void testMonopolyRentCalculation() {
+        Property boardwalk = new Property("Boardwalk", 39, 400, 50, Property.PropertyType.REGULAR, "Dark Blue");
+        regularProperty.setOwner(owner);
+        owner.addProperty(regularProperty);
+        assertEquals(35, regularProperty.calculateRent());
+        
+        // Owning the whole color group doubles unimproved rent
+        boardwalk.setOwner(owner);
+        owner.addProperty(boardwalk);
+        assertEquals(70, regularProperty.calculateRent());
+        assertEquals(100, boardwalk.calculateRent());
+        
+        // Selling one breaks the monopoly again
+        owner.removeProperty(boardwalk);
+        assertEquals(35, regularProperty.calculateRent());
+    }
+    
+    @Test
+    void testRailroadRentAfterRemovingRailroad() {
+        Property railroad2 = new Property("Pennsylvania Railroad", 15, 200, 25, Property.PropertyType.RAILROAD, "Railroad");
+        Property railroad3 = new Property("B&O Railroad", 25, 200, 25, Property.PropertyType.RAILROAD, "Railroad");
+        for (Property r : new Property[] { railroad, railroad2, railroad3 }) {
+            r.setOwner(owner);
+            owner.addProperty(r);
+        }
+        assertEquals(100, railroad.calculateRent()); // 25 * 2^(3-1)
+        
+        owner.removeProperty(railroad3);
+        assertEquals(50, railroad.calculateRent());
+        
+        // Removing a property the player doesn't own changes nothing
+        owner.removeProperty(railroad3);
+        assertEquals(50, railroad.calculateRent());
+    }
+    
+    @Test
+    void testRentTableLevels() {
+        RentTable table = regularProperty.getRentTable();
+        assertEquals(7, table.getLevels());
+        assertEquals(35, table.getRent(RentTable.regularLevel(0, false, false)));
+        assertEquals(70, table.getRent(RentTable.regularLevel(0, false, true)));
+        assertEquals(560, table.getRent(RentTable.regularLevel(2, false, true)));
+        assertEquals(1120, table.getRent(RentTable.regularLevel(0, true, true)));
+        
+        RentTable railroadTable = railroad.getRentTable();
+        assertEquals(25, railroadTable.getRentForCount(1));
+        assertEquals(200, railroadTable.getRentForCount(4));
+    }
+    
     @Test
     void testHandleLandingUnowned() {
         Player player = new Player("Test Player", 1500);
@@ -0,0 +1,31 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueDecisionMakerTest {
+    
+    @Test
+    void testAnswersJailQuestion() {
+        QueueDecisionMaker decisions = new QueueDecisionMaker();
+        Player player = new Player("Alice", 1500);
+        
+        // Stale answers are skipped; LEAVE_JAIL gets out before rolling
+        decisions.submit(QueueDecisionMaker.Command.BUY);
+        decisions.submit(QueueDecisionMaker.Command.LEAVE_JAIL);
+        assertTrue(decisions.shouldLeaveJail(player, null));
+        assertEquals(QueueDecisionMaker.Awaiting.NOTHING, decisions.getAwaiting());
+        
+        // Rolling answers the question and is also the roll itself
+        decisions.submit(QueueDecisionMaker.Command.ROLL);
+        assertFalse(decisions.shouldLeaveJail(player, null));
+        decisions.awaitRoll(player, null);
+        
+        // The next roll needs a command of its own
+        decisions.submit(QueueDecisionMaker.Command.LEAVE_JAIL);
+        decisions.submit(QueueDecisionMaker.Command.ROLL);
+        decisions.awaitRoll(player, null);
+        decisions.submit(QueueDecisionMaker.Command.BUY);
+        assertTrue(decisions.shouldBuyProperty(player, null, null));
+    }
+}
\ No newline at end of file
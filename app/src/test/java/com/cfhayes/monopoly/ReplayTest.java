@@ -0,0 +1,114 @@
+package com.cfhayes.monopoly;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+    
+    // Buys cheap properties only, so the decisions actually vary
+    private static final DecisionMaker BARGAIN_HUNTER = (player, property, game) -> property.getPrice() < 200;
+    
+    @Test
+    void testRecordingCapturesDecisions() {
+        GameRecord record = new GameRecord(5, 6, List.of("Alice", "Bob"));
+        Game game = record.startRecording(BARGAIN_HUNTER, GameEventSink.NO_OP);
+        game.play(100);
+        
+        assertTrue(record.getDecisions().size() > 0);
+        assertTrue(record.getDecisions().toString().contains("0"));
+        assertTrue(record.getDecisions().toString().contains("1"));
+    }
+    
+    @Test
+    void testReplayReproducesGame() {
+        GameRecord record = new GameRecord(11, 12, List.of("Alice", "Bob", "Charlie"));
+        Game original = record.startRecording(
+            List.of(BARGAIN_HUNTER, DecisionMaker.ALWAYS_BUY, DecisionMaker.NEVER_BUY), GameEventSink.NO_OP);
+        original.play(400);
+        
+        Game replayed = new Replay(record).playToEnd(400);
+        
+        assertSameState(original, replayed);
+    }
+    
+    @Test
+    void testSeekMatchesStraightReplay() {
+        GameRecord record = new GameRecord(21, 22, List.of("Alice", "Bob"));
+        record.startRecording(BARGAIN_HUNTER, GameEventSink.NO_OP).play(300);
+        Replay replay = new Replay(record, 25, GameEventSink.NO_OP);
+        
+        replay.seek(230);
+        assertTrue(replay.getCheckpointCount() >= 9);
+        
+        for (int turn : new int[] { 137, 20, 0, 199, 75 }) {
+            Game sought = replay.seek(turn);
+            Game straight = new Replay(record, 1000, GameEventSink.NO_OP).seek(turn);
+            assertEquals(straight.getTurnCount(), sought.getTurnCount());
+            assertSameState(straight, sought);
+        }
+    }
+    
+    @Test
+    void testReplaysSimulationGame() {
+        SimulationRunner runner = new SimulationRunner(3, 300, BARGAIN_HUNTER);
+        Game simulated = runner.playGame(7, 4);
+        
+        GameRecord record = runner.recordGame(7, 4);
+        record.startRecording(BARGAIN_HUNTER, GameEventSink.NO_OP).play(300);
+        Replay replay = new Replay(record);
+        
+        assertSameState(simulated, replay.playToEnd(300));
+        assertEquals(1 + simulated.getTurnCount() / 100, replay.getCheckpointCount());
+        Game sought = replay.seek(120);
+        assertSameState(new Replay(record).seek(120), sought);
+    }
+    
+    @Test
+    void testReplaysTournamentGame() {
+        Tournament tournament = new Tournament(2, 300);
+        tournament.addStrategy("Bargain hunter", BARGAIN_HUNTER);
+        tournament.addStrategy("Always buy", DecisionMaker.ALWAYS_BUY);
+        Game played = tournament.playGame(new int[] { 1, 0 }, 9, 3);
+        
+        GameRecord record = GameRecord.forStream(9, 3, false, List.of("Always buy", "Bargain hunter"));
+        record.startRecording(List.of(DecisionMaker.ALWAYS_BUY, BARGAIN_HUNTER), GameEventSink.NO_OP).play(300);
+        
+        assertSameState(played, new Replay(record).playToEnd(300));
+    }
+    
+    @Test
+    void testExhaustedLogFails() {
+        GameRecord record = new GameRecord(1, 2, List.of("Alice", "Bob"));
+        record.startRecording(DecisionMaker.ALWAYS_BUY, GameEventSink.NO_OP).play(5);
+        
+        assertThrows(IllegalStateException.class, () -> new Replay(record).playToEnd(500));
+    }
+    
+    @Test
+    void testDecisionLog() {
+        DecisionLog log = new DecisionLog();
+        for (int i = 0; i < 1000; i++) {
+            log.add(i % 3 == 0);
+        }
+        
+        assertEquals(1000, log.size());
+        assertTrue(log.get(999));
+        assertFalse(log.get(998));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(1000));
+    }
+    
+    private static void assertSameState(Game expected, Game actual) {
+        CompactGameState expectedState = CompactGameState.of(expected);
+        CompactGameState actualState = CompactGameState.of(actual);
+        assertEquals(expectedState.getTurn(), actualState.getTurn());
+        assertEquals(expectedState.getCurrentPlayer(), actualState.getCurrentPlayer());
+        for (int player = 0; player < expectedState.getPlayerCount(); player++) {
+            assertEquals(expectedState.getCash(player), actualState.getCash(player));
+            assertEquals(expectedState.getPosition(player), actualState.getPosition(player));
+        }
+        for (int square = 0; square < 40; square++) {
+            assertEquals(expectedState.getOwner(square), actualState.getOwner(square));
+        }
+    }
+}
\ No newline at end of file
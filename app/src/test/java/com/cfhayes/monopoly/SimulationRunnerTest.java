@@ -0,0 +1,68 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.ForkJoinPool;
+
+class SimulationRunnerTest {
+    
+    @Test
+    void testRunPlaysAllGames() {
+        SimulationRunner runner = new SimulationRunner(2, 300, DecisionMaker.ALWAYS_BUY);
+        SimulationStats stats = runner.run(100, 42);
+        
+        assertEquals(100, stats.getGames());
+        assertTrue(stats.getTotalTurns() > 0);
+        assertTrue(stats.getMaxTurns() <= 300);
+        assertTrue(stats.getMinTurns() <= stats.getMaxTurns());
+        
+        // Wins can only come from finished games
+        assertTrue(stats.getWins(0) + stats.getWins(1) <= stats.getFinishedGames());
+    }
+    
+    @Test
+    void testSameSeedGivesSameResultsRegardlessOfParallelism() {
+        SimulationStats parallel = new SimulationRunner(3, 200, DecisionMaker.ALWAYS_BUY).run(150, 7);
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        try {
+            SimulationStats sequential = new SimulationRunner(3, 200, DecisionMaker.ALWAYS_BUY, singleThread).run(150, 7);
+            
+            assertEquals(parallel.getTotalTurns(), sequential.getTotalTurns());
+            assertEquals(parallel.getFinishedGames(), sequential.getFinishedGames());
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(parallel.getWins(seat), sequential.getWins(seat));
+                assertEquals(parallel.getAverageFinalMoney(seat), sequential.getAverageFinalMoney(seat), 0.0001);
+            }
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+    
+    @Test
+    void testMergeCombinesStats() {
+        SimulationRunner runner = new SimulationRunner(2, 100, DecisionMaker.ALWAYS_BUY);
+        SimulationStats first = new SimulationStats(2);
+        SimulationStats second = new SimulationStats(2);
+        Game game1 = runner.playGame(1, 0);
+        Game game2 = runner.playGame(1, 1);
+        first.record(game1, game1.getTurnCount());
+        second.record(game2, game2.getTurnCount());
+        
+        first.merge(second);
+        
+        assertEquals(2, first.getGames());
+        assertEquals(game1.getTurnCount() + game2.getTurnCount(), first.getTotalTurns());
+        assertEquals(Math.max(game1.getTurnCount(), game2.getTurnCount()), first.getMaxTurns());
+    }
+    
+    @Test
+    void testMergeRejectsDifferentPlayerCounts() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationStats(2).merge(new SimulationStats(3)));
+    }
+    
+    @Test
+    void testInvalidPlayerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(1, 100, DecisionMaker.ALWAYS_BUY));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(9, 100, DecisionMaker.ALWAYS_BUY));
+    }
+}
\ No newline at end of file
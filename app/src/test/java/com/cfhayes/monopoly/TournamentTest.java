@@ -0,0 +1,104 @@
+package com.cfhayes.monopoly;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+    
+    private static Tournament newTournament(int playersPerGame) {
+        Tournament tournament = new Tournament(playersPerGame, 500);
+        tournament.addStrategy("Always buy", DecisionMaker.ALWAYS_BUY);
+        tournament.addStrategy("Never buy", DecisionMaker.NEVER_BUY);
+        tournament.addStrategy("Cheap only", (player, property, game) -> property.getPrice() <= 150);
+        return tournament;
+    }
+    
+    @Test
+    void testRoundRobinTables() {
+        Tournament tournament = newTournament(2);
+        tournament.addStrategy("Expensive only", (player, property, game) -> property.getPrice() > 150);
+        
+        List<int[]> tables = tournament.roundRobinTables();
+        
+        assertEquals(6, tables.size()); // 4 choose 2
+        assertArrayEquals(new int[] { 0, 1 }, tables.get(0));
+        assertArrayEquals(new int[] { 2, 3 }, tables.get(5));
+    }
+    
+    @Test
+    void testMoreSeatsThanStrategies() {
+        List<int[]> tables = newTournament(5).roundRobinTables();
+        
+        assertEquals(1, tables.size());
+        assertArrayEquals(new int[] { 0, 1, 2, 0, 1 }, tables.get(0));
+    }
+    
+    @Test
+    void testStopsEarlyWhenSignificant() {
+        // Buying only cheap properties is too close to buying everything to separate them quickly
+        Tournament tournament = new Tournament(2, 500);
+        tournament.addStrategy("Always buy", DecisionMaker.ALWAYS_BUY);
+        tournament.addStrategy("Never buy", DecisionMaker.NEVER_BUY);
+        tournament.addStrategy("Expensive only", (player, property, game) -> property.getPrice() > 150);
+        TournamentResult result = tournament.run(Tournament.Pairing.ROUND_ROBIN, 20000, 1);
+        
+        assertTrue(result.isSignificant());
+        assertTrue(result.isStoppedEarly());
+        assertTrue(result.getGames() < 20000);
+        assertEquals(result.getGames(), result.getRounds() * 6L);
+        assertNotEquals("Never buy", result.getName(result.getLeader()));
+        
+        long appearances = 0;
+        for (int i = 0; i < result.getStrategyCount(); i++) {
+            appearances += result.getAppearances(i);
+            double[] interval = result.getConfidenceInterval(i);
+            assertTrue(interval[0] <= result.getWinRate(i) && result.getWinRate(i) <= interval[1]);
+        }
+        assertEquals(2 * result.getGames(), appearances);
+    }
+    
+    @Test
+    void testSwissRunsToBudget() {
+        Tournament tournament = newTournament(2);
+        tournament.setStopWhenSignificant(false);
+        
+        TournamentResult result = tournament.run(Tournament.Pairing.SWISS, 60, 3);
+        
+        assertFalse(result.isStoppedEarly());
+        assertEquals(60, result.getGames()); // 15 rounds of 2 tables x 2 rotations
+        assertEquals(15, result.getRounds());
+    }
+    
+    @Test
+    void testReproducible() {
+        Tournament tournament = newTournament(3);
+        tournament.setStopWhenSignificant(false);
+        
+        TournamentResult first = tournament.run(Tournament.Pairing.ROUND_ROBIN, 30, 9);
+        TournamentResult second = tournament.run(Tournament.Pairing.ROUND_ROBIN, 30, 9);
+        
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first.getWins(i), second.getWins(i));
+        }
+    }
+    
+    @Test
+    void testWilsonInterval() {
+        double[] interval = TournamentResult.wilsonInterval(50, 100, TournamentResult.Z_95);
+        assertEquals(0.4038, interval[0], 1e-3);
+        assertEquals(0.5962, interval[1], 1e-3);
+        
+        assertArrayEquals(new double[] { 0, 1 }, TournamentResult.wilsonInterval(0, 0, TournamentResult.Z_95));
+        assertEquals(0.0, TournamentResult.wilsonInterval(0, 10, TournamentResult.Z_95)[0]);
+    }
+    
+    @Test
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(9, 100));
+        Tournament tournament = new Tournament(2, 100);
+        tournament.addStrategy("Only", DecisionMaker.ALWAYS_BUY);
+        assertThrows(IllegalArgumentException.class, () -> tournament.addStrategy("Only", DecisionMaker.NEVER_BUY));
+        assertThrows(IllegalStateException.class, () -> tournament.run(Tournament.Pairing.SWISS, 10, 1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.cfhayes.monopoly;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnRulesTest {
+    
+    @Test
+    void testDoublesRollAgainUntilSpeeding() {
+        assertEquals(TurnRules.RollOutcome.MOVE, TurnRules.afterRoll(false, 0, false, 0));
+        assertEquals(TurnRules.RollOutcome.MOVE_AND_ROLL_AGAIN, TurnRules.afterRoll(false, 0, true, 1));
+        assertEquals(TurnRules.RollOutcome.MOVE_AND_ROLL_AGAIN, TurnRules.afterRoll(false, 0, true, 2));
+        assertEquals(TurnRules.RollOutcome.SPEEDING, TurnRules.afterRoll(false, 0, true, 3));
+    }
+    
+    @Test
+    void testJailEndsOnDoublesOrAfterThreeTurns() {
+        assertEquals(TurnRules.RollOutcome.LEAVE_JAIL, TurnRules.afterRoll(true, 0, true, 1));
+        assertEquals(TurnRules.RollOutcome.STAY_IN_JAIL, TurnRules.afterRoll(true, 0, false, 0));
+        assertEquals(TurnRules.RollOutcome.STAY_IN_JAIL, TurnRules.afterRoll(true, 1, false, 0));
+        assertEquals(TurnRules.RollOutcome.PAY_AND_LEAVE_JAIL, TurnRules.afterRoll(true, 2, false, 0));
+        assertEquals(TurnRules.RollOutcome.LEAVE_JAIL, TurnRules.afterRoll(true, 2, true, 1));
+    }
+    
+    @Test
+    void testNoExtraRollFromJailOrWhenBroke() {
+        assertTrue(TurnRules.mayRollAgain(false, 100));
+        assertFalse(TurnRules.mayRollAgain(true, 100));
+        assertFalse(TurnRules.mayRollAgain(false, 0));
+    }
+    
+    @Test
+    void testGameAppliesJailRules() {
+        // Sending a player to jail and letting them try for doubles always gets them out within three turns
+        Game game = new Game(new Dice(3), new CardDeck(3), DecisionMaker.NEVER_BUY, GameEventSink.NO_OP);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        Player alice = game.getPlayers().get(0);
+        alice.setPosition(10);
+        alice.setInJail(true);
+        
+        for (int turn = 0; turn < 3 && alice.isInJail(); turn++) {
+            assertEquals(turn, alice.getJailTurns());
+            game.play(2);
+        }
+        assertFalse(alice.isInJail());
+        assertNotEquals(10, alice.getPosition());
+    }
+    
+    @Test
+    void testLeavingEarlyUsesCardBeforeFine() {
+        DecisionMaker leaveEarly = new DecisionMaker() {
+            @Override
+            public boolean shouldLeaveJail(Player player, Game game) {
+                return true;
+            }
+            
+            @Override
+            public boolean shouldBuyProperty(Player player, Property property, Game game) {
+                return false;
+            }
+        };
+        EventBuffer events = new EventBuffer();
+        Game game = new Game(new Dice(8), new CardDeck(8), leaveEarly, events);
+        game.addPlayer("Alice");
+        game.addPlayer("Bob");
+        Player alice = game.getPlayers().get(0);
+        alice.setPosition(10);
+        alice.setInJail(true);
+        alice.setJailFreeCards(1);
+        
+        game.play(1);
+        
+        assertEquals(0, alice.getJailFreeCards());
+        assertEquals(alice, events.getEvents(GameEvent.LeftJail.class).get(0).player());
+        assertTrue(events.getEvents(GameEvent.CashChanged.class).stream()
+                         .noneMatch(changed -> changed.reason().equals("Jail fine")));
+    }
+}
\ No newline at end of file